@@ -18,6 +18,7 @@ package io.micronaut.build.internal.openapi;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -28,6 +29,7 @@ import org.gradle.api.file.Directory;
 import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.Classpath;
@@ -38,7 +40,7 @@ import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
-import org.gradle.process.ExecOperations;
+import org.gradle.workers.WorkerExecutor;
 
 /**
  * A task which simulates what the Gradle Micronaut plugin
@@ -89,8 +91,17 @@ public abstract class OpenApiGeneratorTask extends DefaultTask {
     @Input
     public abstract ListProperty<Map<String, String>> getResponseBodyMappings();
 
+    /**
+     * Additional generator options, like {@code authorization: "true"}. The options are applied
+     * to the options builder of the generator kind by the test entry point.
+     *
+     * @return The generator options
+     */
+    @Input
+    public abstract MapProperty<String, String> getGeneratorOptions();
+
     @Inject
-    protected abstract ExecOperations getExecOperations();
+    protected abstract WorkerExecutor getWorkerExecutor();
 
     @TaskAction
     public void execute() throws IOException {
@@ -102,20 +113,22 @@ public abstract class OpenApiGeneratorTask extends DefaultTask {
         Files.createDirectories(generatedSourcesDir.toPath());
         Files.createDirectories(generatedTestSourcesDir.toPath());
         getProject().getLogger().info("json: {}", getParameterMappings().get());
-        getExecOperations().javaexec(javaexec -> {
-            javaexec.setClasspath(getClasspath());
-            javaexec.getMainClass().set("io.micronaut.openapi.testsuite.GeneratorMain");
-            var args = new ArrayList<String>();
-            args.add(getGeneratorKind().get());
-            args.add(getOpenApiDefinition().get().getAsFile().toURI().toString());
-            args.add(getOutputDirectory().get().getAsFile().getAbsolutePath());
-            args.add(String.join(",", getOutputKinds().get()));
-            args.add(getParameterMappings().get().toString());
-            args.add(getResponseBodyMappings().get().toString());
-            args.add(lang.toUpperCase());
-            args.add(Boolean.toString(generatedAnnotation));
-            args.add(Boolean.toString(ksp));
-            javaexec.args(args);
-        });
+        var args = new ArrayList<String>();
+        args.add(getGeneratorKind().get());
+        args.add(getOpenApiDefinition().get().getAsFile().toURI().toString());
+        args.add(getOutputDirectory().get().getAsFile().getAbsolutePath());
+        args.add(String.join(",", getOutputKinds().get()));
+        args.add(getParameterMappings().get().toString());
+        args.add(getResponseBodyMappings().get().toString());
+        args.add(lang.toUpperCase());
+        args.add(Boolean.toString(generatedAnnotation));
+        args.add(Boolean.toString(ksp));
+        var generatorOptions = getGeneratorOptions().get();
+        args.add(generatorOptions.isEmpty() ? "" : List.of(generatorOptions).toString());
+        // isolated class loaders are cached by classpath, so all test suites share one generator
+        // class loader and the parsed definition cache in it instead of forking a JVM per suite
+        getWorkerExecutor()
+            .classLoaderIsolation(spec -> spec.getClasspath().from(getClasspath()))
+            .submit(OpenApiGeneratorWorkAction.class, parameters -> parameters.getArguments().set(args));
     }
 }
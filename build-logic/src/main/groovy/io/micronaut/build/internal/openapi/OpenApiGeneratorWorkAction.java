@@ -0,0 +1,54 @@
+/*
+ * Copyright 2003-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.build.internal.openapi;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Runs the test entry point in an isolated class loader of the build process.
+ * The class loader is reused by all tasks with the same generator classpath,
+ * so the generator is loaded and warmed up once per build.
+ */
+public abstract class OpenApiGeneratorWorkAction implements WorkAction<OpenApiGeneratorWorkAction.Parameters> {
+
+    static final String MAIN_CLASS = "io.micronaut.openapi.testsuite.GeneratorMain";
+
+    @Override
+    public void execute() {
+        var args = getParameters().getArguments().get().toArray(new String[0]);
+        try {
+            var mainClass = Class.forName(MAIN_CLASS, true, getClass().getClassLoader());
+            mainClass.getMethod("main", String[].class).invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            throw new GradleException("OpenAPI generation failed", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new GradleException("Unable to run " + MAIN_CLASS, e);
+        }
+    }
+
+    /**
+     * Work action parameters.
+     */
+    public interface Parameters extends WorkParameters {
+
+        ListProperty<String> getArguments();
+    }
+}
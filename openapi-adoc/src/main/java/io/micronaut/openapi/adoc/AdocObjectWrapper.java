@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc;
+
+import java.util.List;
+import java.util.Set;
+
+import io.micronaut.openapi.adoc.md.MdToAdocConverter;
+
+import freemarker.ext.beans.StringModel;
+import freemarker.template.DefaultObjectWrapper;
+import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import freemarker.template.TemplateScalarModel;
+import freemarker.template.Version;
+
+/**
+ * FreeMarker object wrapper, which converts Markdown descriptions of OpenAPI model objects to Asciidoc
+ * when templates read them. OpenAPI model is not changed, so it can be used by other consumers
+ * at the same time. Conversion results are memoized by {@link MdToAdocConverter}.
+ *
+ * @since 6.6.0
+ */
+final class AdocObjectWrapper extends DefaultObjectWrapper {
+
+    private static final String OPENAPI_MODELS_PACKAGE = "io.swagger.v3.oas.models";
+    private static final Set<String> MARKDOWN_PROPERTIES = Set.of(
+        "description",
+        "summary",
+        "termsOfService"
+    );
+    private static final Set<String> MARKDOWN_GETTERS = Set.of(
+        "getDescription",
+        "getSummary",
+        "getTermsOfService"
+    );
+
+    AdocObjectWrapper(Version incompatibleImprovements) {
+        super(incompatibleImprovements);
+    }
+
+    @Override
+    protected TemplateModel handleUnknownType(Object obj) throws TemplateModelException {
+        if (obj.getClass().getName().startsWith(OPENAPI_MODELS_PACKAGE)) {
+            return new MarkdownConvertingModel(obj, this);
+        }
+        return super.handleUnknownType(obj);
+    }
+
+    private TemplateModel convert(TemplateModel model) throws TemplateModelException {
+        if (model instanceof TemplateScalarModel scalarModel) {
+            return wrap(MdToAdocConverter.convert(scalarModel.getAsString()));
+        }
+        return model;
+    }
+
+    /**
+     * Bean model with converted Markdown properties.
+     */
+    private static final class MarkdownConvertingModel extends StringModel {
+
+        private final AdocObjectWrapper wrapper;
+
+        MarkdownConvertingModel(Object object, AdocObjectWrapper wrapper) {
+            super(object, wrapper);
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            var model = super.get(key);
+            if (model == null) {
+                return null;
+            }
+            if (MARKDOWN_PROPERTIES.contains(key)) {
+                return wrapper.convert(model);
+            }
+            if (MARKDOWN_GETTERS.contains(key) && model instanceof TemplateMethodModelEx method) {
+                return new MarkdownConvertingMethod(method, wrapper);
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Getter method with converted Markdown result.
+     *
+     * @param method original method
+     * @param wrapper object wrapper
+     */
+    private record MarkdownConvertingMethod(TemplateMethodModelEx method, AdocObjectWrapper wrapper) implements TemplateMethodModelEx {
+
+        @Override
+        public Object exec(List arguments) throws TemplateModelException {
+            var result = method.exec(arguments);
+            return result instanceof TemplateModel model ? wrapper.convert(model) : result;
+        }
+    }
+}
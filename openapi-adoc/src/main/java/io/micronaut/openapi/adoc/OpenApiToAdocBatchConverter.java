@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Batch conversion of many OpenAPI files to asciidoc format in one JVM.
+ * Template configuration and object mappers are shared by all conversions,
+ * specifications are read and rendered in parallel.
+ * <p>
+ * Manifest file contains a line for every specification in format {@code specLocation=outputPath}.
+ * Empty lines and lines started with {@code #} are ignored. Converter config properties are read from
+ * system properties, the same as for {@link OpenApiToAdocConverter#convert()}.
+ *
+ * @since 6.6.0
+ */
+public final class OpenApiToAdocBatchConverter {
+
+    private OpenApiToAdocBatchConverter() {
+    }
+
+    /**
+     * Convert all specifications from manifest file and print conversion report.
+     *
+     * @param args manifest file path
+     *
+     * @throws IOException some problems with manifest file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: " + OpenApiToAdocBatchConverter.class.getName() + " <manifest file>");
+            System.exit(2);
+            return;
+        }
+        var results = convert(readManifest(Path.of(args[0])));
+        var failed = 0;
+        for (var result : results) {
+            if (result.error() == null) {
+                System.out.printf("%s -> %s: parsed in %d ms, rendered in %d ms%n",
+                    result.entry().specLocation(), result.entry().outputPath(), result.parseMillis(), result.renderMillis());
+            } else {
+                failed++;
+                System.err.printf("%s -> %s: failed: %s%n", result.entry().specLocation(), result.entry().outputPath(), result.error());
+            }
+        }
+        System.out.printf("Converted %d of %d specifications%n", results.size() - failed, results.size());
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Read conversion manifest.
+     *
+     * @param manifestPath manifest file path
+     *
+     * @return manifest entries
+     *
+     * @throws IOException some problems with manifest file
+     */
+    public static List<BatchEntry> readManifest(Path manifestPath) throws IOException {
+        var entries = new ArrayList<BatchEntry>();
+        var lineNumber = 0;
+        for (var line : Files.readAllLines(manifestPath, UTF_8)) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            var separatorIndex = line.indexOf('=');
+            if (separatorIndex <= 0 || separatorIndex == line.length() - 1) {
+                throw new IllegalArgumentException("Invalid manifest line " + lineNumber + ": " + line + ", expected format specLocation=outputPath");
+            }
+            entries.add(new BatchEntry(line.substring(0, separatorIndex).strip(), Path.of(line.substring(separatorIndex + 1).strip())));
+        }
+        return entries;
+    }
+
+    /**
+     * Convert specifications in parallel. Failure of one conversion doesn't stop others.
+     *
+     * @param entries specifications and output paths
+     *
+     * @return conversion results in the same order as entries
+     */
+    public static List<BatchResult> convert(List<BatchEntry> entries) {
+        return entries.parallelStream()
+            .map(OpenApiToAdocBatchConverter::convert)
+            .toList();
+    }
+
+    private static BatchResult convert(BatchEntry entry) {
+        var start = System.nanoTime();
+        long parseMillis = 0;
+        try {
+            var openApi = SwaggerUtils.readOpenApiFromLocation(entry.specLocation());
+            var parsed = System.nanoTime();
+            parseMillis = TimeUnit.NANOSECONDS.toMillis(parsed - start);
+
+            var parentDir = entry.outputPath().toAbsolutePath().getParent();
+            if (parentDir != null) {
+                Files.createDirectories(parentDir);
+            }
+            OpenApiToAdocConverter.convert(openApi, System.getProperties(), entry.outputPath(), false);
+            return new BatchResult(entry, parseMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parsed), null);
+        } catch (Exception e) {
+            return new BatchResult(entry, parseMillis, 0, e);
+        }
+    }
+
+    /**
+     * Specification to convert.
+     *
+     * @param specLocation OpenAPI file location: file path, classpath location or jar URL
+     * @param outputPath result adoc file path
+     */
+    public record BatchEntry(String specLocation, Path outputPath) {
+    }
+
+    /**
+     * Conversion result.
+     *
+     * @param entry converted specification
+     * @param parseMillis specification reading time in milliseconds
+     * @param renderMillis asciidoc rendering time in milliseconds
+     * @param error conversion error or null, if conversion was successful
+     */
+    public record BatchResult(BatchEntry entry, long parseMillis, long renderMillis, Exception error) {
+    }
+}
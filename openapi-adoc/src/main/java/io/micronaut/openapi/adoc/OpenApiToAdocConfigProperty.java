@@ -50,4 +50,10 @@ public interface OpenApiToAdocConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Is split mode enabled: overview, definitions and paths of every tag are rendered
+     * to separate files, which are included to the result adoc file. The template file name
+     * property isn't used in split mode.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED = "micronaut.openapi.adoc.split.enabled";
 }
@@ -17,24 +17,32 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.micronaut.openapi.OpenApiUtils;
-import io.micronaut.openapi.adoc.md.MdToAdocConverter;
 import io.micronaut.openapi.adoc.utils.SwaggerUtils;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.cache.FileTemplateLoader;
 import freemarker.cache.MultiTemplateLoader;
 import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateModelException;
 
@@ -67,6 +75,15 @@ public final class OpenApiToAdocConverter {
 
     private static final String TEMPLATE_PREFIX = "template_";
     private static final String TEMPLATES_DIR = "/template";
+    private static final String DEFAULT_TAG = "default";
+    private static final String EXT_ADOC = ".adoc";
+
+    /**
+     * FreeMarker configurations by custom templates directories. Configuration is thread-safe
+     * and keeps parsed templates in its template cache, so templates are parsed once
+     * for all groups and compilation rounds.
+     */
+    private static final Map<String, Configuration> FREEMARKER_CONFIGS = new ConcurrentHashMap<>();
 
     private OpenApiToAdocConverter() {
     }
@@ -84,7 +101,7 @@ public final class OpenApiToAdocConverter {
         }
         var openApi = SwaggerUtils.readOpenApiFromLocation(openApiFile);
 
-        var outputPath = Paths.get(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, "build/generated"))
+        var outputPath = Path.of(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, "build/generated"))
             .resolve(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, "openApiDoc.adoc"));
 
         if (outputPath.getParent() != null) {
@@ -95,9 +112,147 @@ public final class OpenApiToAdocConverter {
             }
         }
 
-        var fileExists = Files.exists(outputPath);
-        try (var writer = fileExists ? Files.newBufferedWriter(outputPath, UTF_8, StandardOpenOption.APPEND) : Files.newBufferedWriter(outputPath, UTF_8)) {
-            convert(openApi, System.getProperties(), writer);
+        convert(openApi, System.getProperties(), outputPath, false);
+    }
+
+    /**
+     * Conversion from openAPI format to asciidoc format with writing result to file.
+     * Document is rendered to a temporary file in the same directory, which then replaces
+     * the output file, so a failed conversion never leaves partially written file.
+     *
+     * @param openApi openAPI object
+     * @param props converter config properties
+     * @param outputPath output file path
+     * @param append if true, rendered document is added to the end of existing output file content
+     *
+     * @throws TemplateException som problems with freemarker templates
+     * @throws IOException some problems with files
+     * @since 6.6.0
+     */
+    public static void convert(OpenAPI openApi, Map props, Path outputPath, boolean append) throws TemplateException, IOException {
+        if (isSplitEnabled(props)) {
+            convertSplit(openApi, props, outputPath, append);
+            return;
+        }
+        writeFile(outputPath, append, writer -> convert(openApi, props, writer));
+    }
+
+    /**
+     * Conversion from openAPI format to several asciidoc files. Overview, definitions and paths of every tag
+     * are rendered in parallel to separate files in directory with the same name as output file.
+     * Output file is the master document, which includes all these files.
+     * <p>
+     * If append is true, parts are written to a new directory with a numeric suffix, which isn't included
+     * by the master document yet, and include directives are added to the end of the master document. So several
+     * specifications can be converted to the same output file.
+     * <p>
+     * The master document always includes the standard overview, paths and definitions parts,
+     * so {@link OpenApiToAdocConfigProperty#MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME} isn't used in split mode.
+     * Templates of the parts can still be customized.
+     *
+     * @param openApi openAPI object
+     * @param props converter config properties
+     * @param outputPath master document file path
+     * @param append if true, include directives are added to the end of existing master document
+     *
+     * @throws TemplateException som problems with freemarker templates
+     * @throws IOException some problems with files
+     * @since 6.6.0
+     */
+    public static void convertSplit(OpenAPI openApi, Map props, Path outputPath, boolean append) throws TemplateException, IOException {
+
+        var fileName = outputPath.getFileName().toString();
+        var partsDirName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        if (append && Files.exists(outputPath)) {
+            // every appended specification gets its own parts directory, so parts of previous ones are kept
+            var master = Files.readString(outputPath, UTF_8);
+            var baseDirName = partsDirName;
+            for (var i = 2; master.contains("include::" + partsDirName + '/'); i++) {
+                partsDirName = baseDirName + '-' + i;
+            }
+        }
+        var partsDir = outputPath.toAbsolutePath().getParent().resolve(partsDirName);
+        Files.createDirectories(partsDir);
+
+        var cfg = getFreemarkerConfig(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH));
+        var baseModel = createModel(openApi);
+
+        var overviewPart = new DocPart("overview" + EXT_ADOC, new Template("overview", "<#include template_overview />", cfg), baseModel);
+        var definitionsPart = new DocPart("definitions" + EXT_ADOC, new Template("definitions", "<#include template_definitions />", cfg), baseModel);
+        var pathsParts = new ArrayList<DocPart>();
+        var tagPaths = getPathsByTag(openApi);
+        var pathsTemplate = new Template("paths", "<#include template_paths />", cfg);
+        var usedNames = new HashSet<String>();
+        for (var entry : tagPaths.entrySet()) {
+            var model = new HashMap<>(baseModel);
+            model.put("paths", entry.getValue());
+            model.put("pathsTag", entry.getKey());
+            var partName = "paths-" + toFileName(entry.getKey());
+            var uniquePartName = partName;
+            for (var i = 2; !usedNames.add(uniquePartName); i++) {
+                uniquePartName = partName + '-' + i;
+            }
+            pathsParts.add(new DocPart(uniquePartName + EXT_ADOC, pathsTemplate, model));
+        }
+
+        var parts = new ArrayList<DocPart>(pathsParts.size() + 2);
+        parts.add(overviewPart);
+        parts.addAll(pathsParts);
+        parts.add(definitionsPart);
+
+        try {
+            parts.parallelStream().forEach(part -> {
+                try {
+                    writeFile(partsDir.resolve(part.fileName), false, writer -> part.template.process(part.model, writer));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (TemplateException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof TemplateException templateException) {
+                throw templateException;
+            }
+            throw e;
+        }
+
+        var includeDirName = partsDirName;
+        writeFile(outputPath, append, writer -> {
+            writeInclude(writer, includeDirName, overviewPart);
+            if (!pathsParts.isEmpty()) {
+                writer.write("== Paths\n\n");
+                for (var part : pathsParts) {
+                    writeInclude(writer, includeDirName, part);
+                }
+            }
+            writeInclude(writer, includeDirName, definitionsPart);
+        });
+    }
+
+    private static void writeInclude(Writer writer, String partsDirName, DocPart part) throws IOException {
+        writer.write("include::" + partsDirName + '/' + part.fileName + "[]\n\n");
+    }
+
+    private static void writeFile(Path outputPath, boolean append, AdocWriter adocWriter) throws TemplateException, IOException {
+        var dir = outputPath.toAbsolutePath().getParent();
+        var tmpFile = Files.createTempFile(dir, outputPath.getFileName().toString(), ".tmp");
+        try {
+            if (append && Files.exists(outputPath)) {
+                Files.copy(outputPath, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (var writer = Files.newBufferedWriter(tmpFile, UTF_8, StandardOpenOption.APPEND)) {
+                adocWriter.write(writer);
+            }
+            try {
+                Files.move(tmpFile, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, outputPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
         }
     }
 
@@ -113,8 +268,15 @@ public final class OpenApiToAdocConverter {
      */
     public static void convert(OpenAPI openApi, Map props, Writer writer) throws TemplateException, IOException {
 
-        MdToAdocConverter.convert(openApi);
+        var templateFilename = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, "openApiDoc.ftl");
+        var customTemplatesDirsStr = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH);
+        var cfg = getFreemarkerConfig(customTemplatesDirsStr);
+        var template = cfg.getTemplate(templateFilename);
 
+        template.process(createModel(openApi), writer);
+    }
+
+    private static Map<String, Object> createModel(OpenAPI openApi) {
         var model = new HashMap<String, Object>();
         model.put("info", openApi.getInfo());
         model.put("externalDocs", openApi.getExternalDocs());
@@ -148,22 +310,94 @@ public final class OpenApiToAdocConverter {
                 model.put(key.replace(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX, TEMPLATE_PREFIX), entry.getValue());
             }
         }
+        return model;
+    }
 
-        var templateFilename = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, "openApiDoc.ftl");
-        var customTemplatesDirsStr = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH);
-        String[] customTemplatesDirs = null;
-        if (customTemplatesDirsStr != null && !customTemplatesDirsStr.isBlank()) {
-            customTemplatesDirs = customTemplatesDirsStr.split(",");
+    /**
+     * Group operations by the first operation tag. Operations without tags are grouped to tag "default".
+     * Original path items are not changed, new path items are created for every tag.
+     *
+     * @param openApi openAPI object
+     *
+     * @return paths by tag name
+     */
+    private static Map<String, Paths> getPathsByTag(OpenAPI openApi) {
+        var result = new LinkedHashMap<String, Paths>();
+        if (openApi.getTags() != null) {
+            for (var tag : openApi.getTags()) {
+                result.put(tag.getName(), new Paths());
+            }
         }
+        if (openApi.getPaths() == null) {
+            return result;
+        }
+        for (var pathEntry : openApi.getPaths().entrySet()) {
+            var pathItem = pathEntry.getValue();
+            for (var opEntry : pathItem.readOperationsMap().entrySet()) {
+                var operation = opEntry.getValue();
+                var tag = operation.getTags() != null && !operation.getTags().isEmpty() ? operation.getTags().get(0) : DEFAULT_TAG;
+                var tagPaths = result.computeIfAbsent(tag, k -> new Paths());
+                var tagPathItem = tagPaths.get(pathEntry.getKey());
+                if (tagPathItem == null) {
+                    tagPathItem = new PathItem()
+                        .summary(pathItem.getSummary())
+                        .description(pathItem.getDescription())
+                        .servers(pathItem.getServers())
+                        .parameters(pathItem.getParameters());
+                    tagPaths.addPathItem(pathEntry.getKey(), tagPathItem);
+                }
+                tagPathItem.operation(opEntry.getKey(), operation);
+            }
+        }
+        result.values().removeIf(Paths::isEmpty);
+        return result;
+    }
 
-        var cfg = getFreemarkerConfig(customTemplatesDirs);
-        var template = cfg.getTemplate(templateFilename);
+    private static String toFileName(String tag) {
+        var sb = new StringBuilder(tag.length());
+        for (var i = 0; i < tag.length(); i++) {
+            var ch = Character.toLowerCase(tag.charAt(i));
+            sb.append(Character.isLetterOrDigit(ch) || ch == '_' || ch == '-' ? ch : '-');
+        }
+        return sb.toString();
+    }
 
-        template.process(model, writer);
+    private static boolean isSplitEnabled(Map props) {
+        var value = props != null ? props.get(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED) : null;
+        if (value == null) {
+            value = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED);
+        }
+        return value != null && Boolean.parseBoolean(value.toString().strip());
+    }
+
+    /**
+     * Returns cached FreeMarker configuration for custom templates directories.
+     *
+     * @param customTemplatesDirsStr custom templates directories, separated by ','
+     *
+     * @return FreeMarker configuration
+     *
+     * @throws IOException some problems with files
+     * @throws TemplateModelException some problems with shared variables
+     */
+    static Configuration getFreemarkerConfig(String customTemplatesDirsStr) throws IOException, TemplateModelException {
+        var key = customTemplatesDirsStr != null ? customTemplatesDirsStr.strip() : "";
+        var cfg = FREEMARKER_CONFIGS.get(key);
+        if (cfg != null) {
+            return cfg;
+        }
+        String[] customTemplatesDirs = null;
+        if (!key.isEmpty()) {
+            customTemplatesDirs = key.split(",");
+        }
+        cfg = createFreemarkerConfig(customTemplatesDirs);
+        var existingCfg = FREEMARKER_CONFIGS.putIfAbsent(key, cfg);
+        return existingCfg != null ? existingCfg : cfg;
     }
 
-    private static Configuration getFreemarkerConfig(String[] customTemplatesDirs) throws IOException, TemplateModelException {
+    private static Configuration createFreemarkerConfig(String[] customTemplatesDirs) throws IOException, TemplateModelException {
         TemplateLoader templateLoader = new ClassTemplateLoader(OpenApiToAdocConverter.class, TEMPLATES_DIR);
+        var hasFileTemplates = false;
         if (customTemplatesDirs != null && customTemplatesDirs.length > 0) {
             var templateLoaders = new ArrayList<TemplateLoader>();
             for (var templateDir : customTemplatesDirs) {
@@ -179,6 +413,7 @@ public final class OpenApiToAdocConverter {
                         }
                     }
                     templateLoaders.add(new FileTemplateLoader(new File(templateDir)));
+                    hasFileTemplates = true;
                 }
             }
             templateLoaders.add(templateLoader);
@@ -186,13 +421,38 @@ public final class OpenApiToAdocConverter {
         }
 
         var cfg = new Configuration(Configuration.VERSION_2_3_32);
+        // descriptions are converted from Markdown when templates read them, without changing OpenAPI model
+        cfg.setObjectWrapper(new AdocObjectWrapper(Configuration.VERSION_2_3_32));
         cfg.setTemplateLoader(templateLoader);
         cfg.setDefaultEncoding(UTF_8.displayName());
         cfg.setSharedVariable("JSON", OpenApiUtils.getJsonMapper());
+        if (!hasFileTemplates) {
+            // classpath templates can't be changed, so don't check them for updates
+            cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+        }
         return cfg;
     }
 
     private static String template(String templateName) {
         return TEMPLATE_PREFIX + templateName;
     }
+
+    /**
+     * Writer of the document content.
+     */
+    @FunctionalInterface
+    private interface AdocWriter {
+
+        void write(Writer writer) throws TemplateException, IOException;
+    }
+
+    /**
+     * Separate file of the split document.
+     *
+     * @param fileName file name
+     * @param template template
+     * @param model template model
+     */
+    private record DocPart(String fileName, Template template, Map<String, Object> model) {
+    }
 }
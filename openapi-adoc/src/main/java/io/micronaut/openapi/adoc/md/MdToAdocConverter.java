@@ -16,7 +16,10 @@
 package io.micronaut.openapi.adoc.md;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import io.micronaut.openapi.adoc.utils.CollectionUtils;
 import io.swagger.v3.oas.models.ExternalDocumentation;
@@ -42,6 +45,27 @@ import org.pegdown.ast.RootNode;
  */
 public final class MdToAdocConverter {
 
+    private static final Pattern FENCED_CODE_BLOCK_PATTERN = Pattern.compile("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```");
+    private static final int MAX_CACHE_SIZE = 1_000;
+    private static final int MAX_CACHED_TEXT_LENGTH = 4_096;
+
+    /**
+     * PegDown processor is expensive to create (parser classes are generated at runtime),
+     * but not thread-safe, so keep one processor per thread.
+     */
+    private static final ThreadLocal<PegDownProcessor> PROCESSOR = ThreadLocal.withInitial(() -> new PegDownProcessor(Extensions.ALL));
+    /**
+     * Converted texts. Descriptions are often repeated across parameters and schemas.
+     * The cache is shared by parallel conversions, so least recently used texts are evicted one by one,
+     * and long texts, which are rarely repeated, aren't cached.
+     */
+    private static final Map<String, String> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    });
+
     private MdToAdocConverter() {
     }
 
@@ -56,16 +80,76 @@ public final class MdToAdocConverter {
         if (markdown == null || markdown.isBlank()) {
             return markdown;
         }
-        var processor = new PegDownProcessor(Extensions.ALL);
+        if (isPlainText(markdown)) {
+            return markdown.strip();
+        }
+        if (markdown.length() > MAX_CACHED_TEXT_LENGTH) {
+            return parseAndConvert(markdown);
+        }
+        var result = CACHE.get(markdown);
+        if (result != null) {
+            return result;
+        }
+        result = parseAndConvert(markdown);
+        CACHE.put(markdown, result);
+        return result;
+    }
+
+    static String parseAndConvert(String markdown) {
+        var source = markdown;
         // insert blank line before fenced code block if necessary
-        if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+        if (source.contains("```")) {
+            source = FENCED_CODE_BLOCK_PATTERN.matcher(source).replaceAll("\n$1```$2$3$1```");
         }
-        RootNode rootNode = processor.parseMarkdown(markdown.toCharArray());
-        return new ToAsciiDocSerializer(rootNode, markdown)
+        RootNode rootNode = PROCESSOR.get().parseMarkdown(source.toCharArray());
+        return new ToAsciiDocSerializer(rootNode, source)
             .toAsciiDoc();
     }
 
+    /**
+     * Checks that text is a single line without any Markdown syntax, so the conversion result
+     * is the same text. Only letters, digits, single spaces and punctuation without special
+     * meaning in Markdown (and PegDown smart typography) are allowed.
+     *
+     * @param text text
+     *
+     * @return true if text doesn't need to be parsed
+     */
+    static boolean isPlainText(String text) {
+        if (!Character.isLetter(text.charAt(0))) {
+            return false;
+        }
+        var prev = '\0';
+        for (var i = 0; i < text.length(); i++) {
+            var ch = text.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                prev = ch;
+                continue;
+            }
+            switch (ch) {
+                case ' ' -> {
+                    if (prev == ' ') {
+                        return false;
+                    }
+                }
+                case '.' -> {
+                    // ellipsis
+                    if (prev == '.') {
+                        return false;
+                    }
+                }
+                case ',', ';', '?', '!', '(', ')' -> {
+                    // no special meaning
+                }
+                default -> {
+                    return false;
+                }
+            }
+            prev = ch;
+        }
+        return true;
+    }
+
     /**
      * Convert all OpenAPI description fields from Markdown format to Asciidoc format.
      *
@@ -10,7 +10,7 @@ ${mediaTypeName}:: <#include template_schemaType />
       <#if mediaType.getEncoding()?has_content>
         <#list mediaType.getEncoding() as encodingName, encoding>
 
-==== ${encodingName}
+${operationSubLevel!"===="} ${encodingName}
           <#if encoding.getContentType()?has_content>
 *Content-Type:* ${encoding.getContentType()} +
           </#if>
@@ -1,10 +1,19 @@
 <#if paths?has_content>
+  <#assign operationLevel = "===" />
+  <#assign operationSubLevel = "====" />
+  <#if pathsTag??>
+    <#assign operationLevel = "====" />
+    <#assign operationSubLevel = "=====" />
+
+=== ${pathsTag}
+  <#else>
 
 == Paths
+  </#if>
   <#list paths as pathsStr, path>
     <#list path.readOperationsMap() as method, operation>
 
-=== __${method}__ `${pathsStr}`<#if operation.getSummary()?has_content> ${operation.getSummary()?trim}</#if>
+${operationLevel} __${method}__ `${pathsStr}`<#if operation.getSummary()?has_content> ${operation.getSummary()?trim}</#if>
       <#if operation.getDescription()?has_content>
 ${operation.getDescription()?trim}
 
@@ -4,7 +4,7 @@
   <#else>
     <#assign request = requestBody />
   </#if>
-==== Request
+${operationSubLevel!"===="} Request
   <#if request.getDescription()?has_content>
 
 ${request.getDescription()}
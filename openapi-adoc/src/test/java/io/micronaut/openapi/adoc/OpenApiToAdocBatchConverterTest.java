@@ -0,0 +1,58 @@
+package io.micronaut.openapi.adoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpenApiToAdocBatchConverterTest {
+
+    final Path outputDir = Paths.get("build/test/batch");
+
+    @BeforeEach
+    void setup() throws IOException {
+        if (Files.exists(outputDir)) {
+            Files.walk(outputDir)
+                .sorted(Comparator.reverseOrder())
+                .map(Path::toFile)
+                .forEach(File::delete);
+        }
+        Files.createDirectories(outputDir);
+    }
+
+    @Test
+    void testBatchConvert() throws IOException {
+
+        var manifest = outputDir.resolve("manifest.txt");
+        Files.writeString(manifest, """
+            # specifications
+            /yaml/swagger_petstore.yaml=%1$s/first/petstore.adoc
+
+            /yaml/swagger_petstore.yaml = %1$s/second/petstore.adoc
+            /yaml/unknown.yaml=%1$s/unknown.adoc
+            """.formatted(outputDir.toString().replace('\\', '/')));
+
+        var entries = OpenApiToAdocBatchConverter.readManifest(manifest);
+        assertEquals(3, entries.size());
+        assertEquals("/yaml/swagger_petstore.yaml", entries.get(1).specLocation());
+
+        var results = OpenApiToAdocBatchConverter.convert(entries);
+
+        assertEquals(3, results.size());
+        assertNull(results.get(0).error());
+        assertNull(results.get(1).error());
+        assertNotNull(results.get(2).error());
+        assertTrue(Files.exists(outputDir.resolve("first/petstore.adoc")));
+        assertEquals(Files.readString(outputDir.resolve("first/petstore.adoc")), Files.readString(outputDir.resolve("second/petstore.adoc")));
+    }
+}
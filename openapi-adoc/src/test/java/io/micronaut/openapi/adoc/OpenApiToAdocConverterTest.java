@@ -2,16 +2,27 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.Map;
+
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.tags.Tag;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import freemarker.template.TemplateException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OpenApiToAdocConverterTest {
@@ -45,4 +56,105 @@ class OpenApiToAdocConverterTest {
         var adoc = Files.readString(resultFile);
         assertTrue(adoc.contains("!!!!!!test custom template"));
     }
+
+    @Test
+    void testFreemarkerConfigCached() throws IOException, TemplateException {
+
+        var cfg = OpenApiToAdocConverter.getFreemarkerConfig("classpath:/customDir");
+
+        assertSame(cfg, OpenApiToAdocConverter.getFreemarkerConfig(" classpath:/customDir "));
+        assertSame(OpenApiToAdocConverter.getFreemarkerConfig(null), OpenApiToAdocConverter.getFreemarkerConfig(""));
+        assertNotSame(cfg, OpenApiToAdocConverter.getFreemarkerConfig(null));
+        assertSame(cfg.getTemplate("links1.ftl"), cfg.getTemplate("links1.ftl"));
+    }
+
+    @Test
+    void testConvertReplacesFile() throws IOException, TemplateException {
+
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH, "/yaml/swagger_petstore.yaml");
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, "replaced.adoc");
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, outputDir.toString());
+
+        OpenApiToAdocConverter.convert();
+        var resultFile = outputDir.resolve("replaced.adoc");
+        var adoc = Files.readString(resultFile);
+
+        OpenApiToAdocConverter.convert();
+
+        assertEquals(adoc, Files.readString(resultFile));
+        try (var files = Files.list(outputDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testSplit() throws IOException, TemplateException {
+
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH, "/yaml/swagger_petstore.yaml");
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, "split.adoc");
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, outputDir.toString());
+        System.setProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED, "true");
+
+        try {
+            OpenApiToAdocConverter.convert();
+        } finally {
+            System.clearProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED);
+        }
+
+        var master = Files.readString(outputDir.resolve("split.adoc"));
+        assertTrue(master.startsWith("include::split/overview.adoc[]"));
+        assertTrue(master.contains("== Paths\n\ninclude::split/paths-pet.adoc[]"));
+        assertTrue(master.trim().endsWith("include::split/definitions.adoc[]"));
+
+        var petPaths = Files.readString(outputDir.resolve("split/paths-pet.adoc"));
+        assertTrue(petPaths.contains("=== pet"));
+        assertTrue(petPaths.contains("==== __"));
+        assertTrue(petPaths.contains("__ `/pet`"));
+        assertFalse(petPaths.contains("/store/"));
+        assertTrue(Files.exists(outputDir.resolve("split/paths-store.adoc")));
+        assertTrue(Files.exists(outputDir.resolve("split/definitions.adoc")));
+        // request headings are under the operation headings
+        assertTrue(petPaths.contains("===== Request"));
+        assertFalse(petPaths.contains("\n==== Request"));
+    }
+
+    @Test
+    void testSplitAppend() throws IOException, TemplateException {
+
+        var openApi = SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml");
+        var props = Map.of(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED, "true");
+        Files.createDirectories(outputDir);
+        var outputPath = outputDir.resolve("groups.adoc");
+
+        OpenApiToAdocConverter.convert(openApi, props, outputPath, false);
+        OpenApiToAdocConverter.convert(openApi, props, outputPath, true);
+
+        var master = Files.readString(outputPath);
+        assertTrue(master.startsWith("include::groups/overview.adoc[]"));
+        assertTrue(master.contains("include::groups-2/overview.adoc[]"));
+        assertTrue(Files.exists(outputDir.resolve("groups/paths-pet.adoc")));
+        assertTrue(Files.exists(outputDir.resolve("groups-2/paths-pet.adoc")));
+
+        // the next build starts from the first directory again
+        OpenApiToAdocConverter.convert(openApi, props, outputPath, false);
+        assertFalse(Files.readString(outputPath).contains("groups-2"));
+    }
+
+    @Test
+    void testModelNotChanged() throws IOException, TemplateException {
+
+        var description = "Some **bold** text";
+        var openApi = new OpenAPI()
+            .info(new Info().title("Test").version("1.0").description(description))
+            .addTagsItem(new Tag().name("pets").description(description));
+
+        var writer = new StringWriter();
+        OpenApiToAdocConverter.convert(openApi, Map.of(), writer);
+
+        var adoc = writer.toString();
+        assertTrue(adoc.contains("Some *bold* text"));
+        assertFalse(adoc.contains("**bold**"));
+        assertEquals(description, openApi.getInfo().getDescription());
+        assertEquals(description, openApi.getTags().get(0).getDescription());
+    }
 }
@@ -0,0 +1,65 @@
+package io.micronaut.openapi.adoc.md;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MdToAdocConverterTest {
+
+    @Test
+    void testPlainText() {
+
+        assertTrue(MdToAdocConverter.isPlainText("Returns the pet, if it exists (or not found)."));
+        assertTrue(MdToAdocConverter.isPlainText("Имя питомца"));
+
+        assertFalse(MdToAdocConverter.isPlainText("1. first"));
+        assertFalse(MdToAdocConverter.isPlainText("Some *bold* text"));
+        assertFalse(MdToAdocConverter.isPlainText("Wait..."));
+        assertFalse(MdToAdocConverter.isPlainText("line  \nbreak"));
+        assertFalse(MdToAdocConverter.isPlainText("See http://example.com"));
+        assertFalse(MdToAdocConverter.isPlainText("It's"));
+    }
+
+    @Test
+    void testPlainTextSameAsParsed() {
+
+        for (var text : new String[] {"Returns the pet, if it exists (or not found). ", "Name", "Is it ok? Yes!"}) {
+            assertEquals(MdToAdocConverter.parseAndConvert(text), MdToAdocConverter.convert(text));
+        }
+    }
+
+    @Test
+    void testConvertCached() {
+
+        var markdown = "Some **bold** text with `code`";
+        var result = MdToAdocConverter.convert(markdown);
+
+        assertEquals("Some *bold* text with `code`", result);
+        assertSame(result, MdToAdocConverter.convert(markdown));
+    }
+
+    @Test
+    void testRecentlyUsedTextStaysCached() {
+
+        var markdown = "Some **recently used** text";
+        var result = MdToAdocConverter.convert(markdown);
+        for (var i = 0; i < 1_100; i++) {
+            MdToAdocConverter.convert("Text **" + i + "**");
+            assertSame(result, MdToAdocConverter.convert(markdown));
+        }
+    }
+
+    @Test
+    void testLongTextNotCached() {
+
+        var markdown = "Some **bold** text\n".repeat(500);
+        var result = MdToAdocConverter.convert(markdown);
+
+        assertEquals(MdToAdocConverter.parseAndConvert(markdown), result);
+        assertNotSame(result, MdToAdocConverter.convert(markdown));
+    }
+}
@@ -129,6 +129,19 @@ public class ObjectMapperFactory {
         return createYaml(true);
     }
 
+    /**
+     * Create mapper for custom data format, for example Smile or CBOR.
+     *
+     * @param jsonFactory data format factory
+     *
+     * @return object mapper
+     *
+     * @since 6.6.0
+     */
+    public static ObjectMapper create(JsonFactory jsonFactory) {
+        return create(jsonFactory, false);
+    }
+
     @SuppressWarnings("deprecation")
     private static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31) {
         ObjectMapper mapper = jsonFactory == null ? new ObjectMapper() : new ObjectMapper(jsonFactory);
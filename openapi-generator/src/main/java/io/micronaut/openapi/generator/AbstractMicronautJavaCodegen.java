@@ -26,7 +26,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -79,6 +78,8 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     public static final String OPT_USE_LOMBOK = "lombok";
     public static final String OPT_USE_PLURAL = "plural";
     public static final String OPT_FLUX_FOR_ARRAYS = "fluxForArrays";
+    public static final String OPT_STREAM_ARRAYS = "streamArrays";
+    public static final String OPT_PRIMITIVE_PROPERTY_TYPES = "primitivePropertyTypes";
     public static final String OPT_GENERATED_ANNOTATION = "generatedAnnotation";
     public static final String OPT_VISITABLE = "visitable";
     public static final String OPT_DATE_LIBRARY_ZONED_DATETIME = "ZONED_DATETIME";
@@ -103,6 +104,13 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final Map<String, String> PRIMITIVE_TYPES = Map.of(
+        "Integer", "int",
+        "Long", "long",
+        "Float", "float",
+        "Double", "double",
+        "Boolean", "boolean"
+    );
 
     protected String title;
     protected boolean useBeanValidation;
@@ -110,6 +118,8 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     protected boolean visitable;
     protected boolean lombok;
     protected boolean fluxForArrays;
+    protected boolean streamArrays;
+    protected boolean primitivePropertyTypes;
     protected boolean plural = true;
     protected boolean generatedAnnotation = true;
     protected String testTool;
@@ -184,6 +194,9 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         cliOptions.add(CliOption.newBoolean(OPT_USE_LOMBOK, "Whether or not to use lombok annotations in generated code", lombok));
         cliOptions.add(CliOption.newBoolean(OPT_USE_PLURAL, "Whether or not to use plural for request body parameter name", plural));
         cliOptions.add(CliOption.newBoolean(OPT_FLUX_FOR_ARRAYS, "Whether or not to use Flux<?> instead Mono<List<?>> for arrays in generated code", fluxForArrays));
+        cliOptions.add(CliOption.newBoolean(OPT_STREAM_ARRAYS, "Whether or not to stream array responses element by element as Flux<?>. "
+            + "Can be changed for operation by vendor extension " + Utils.EXT_STREAM + ": true, false, json or ndjson", streamArrays));
+        cliOptions.add(CliOption.newBoolean(OPT_PRIMITIVE_PROPERTY_TYPES, "Whether or not to use primitive types for required not nullable integer, number and boolean model properties", primitivePropertyTypes));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATED_ANNOTATION, "Generate code with \"@Generated\" annotation", generatedAnnotation));
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations", useBeanValidation));
         cliOptions.add(CliOption.newBoolean(USE_OPTIONAL, "Use Optional container for optional parameters", useOptional));
@@ -299,6 +312,14 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         this.fluxForArrays = fluxForArrays;
     }
 
+    public void setStreamArrays(boolean streamArrays) {
+        this.streamArrays = streamArrays;
+    }
+
+    public void setPrimitivePropertyTypes(boolean primitivePropertyTypes) {
+        this.primitivePropertyTypes = primitivePropertyTypes;
+    }
+
     public void setGeneratedAnnotation(boolean generatedAnnotation) {
         this.generatedAnnotation = generatedAnnotation;
     }
@@ -345,6 +366,16 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         }
         writePropertyBack(OPT_FLUX_FOR_ARRAYS, fluxForArrays);
 
+        if (additionalProperties.containsKey(OPT_STREAM_ARRAYS)) {
+            streamArrays = convertPropertyToBoolean(OPT_STREAM_ARRAYS);
+        }
+        writePropertyBack(OPT_STREAM_ARRAYS, streamArrays);
+
+        if (additionalProperties.containsKey(OPT_PRIMITIVE_PROPERTY_TYPES)) {
+            primitivePropertyTypes = convertPropertyToBoolean(OPT_PRIMITIVE_PROPERTY_TYPES);
+        }
+        writePropertyBack(OPT_PRIMITIVE_PROPERTY_TYPES, primitivePropertyTypes);
+
         if (additionalProperties.containsKey(OPT_GENERATED_ANNOTATION)) {
             generatedAnnotation = convertPropertyToBoolean(OPT_GENERATED_ANNOTATION);
         }
@@ -650,7 +681,14 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
             if (op.returnType != null) {
                 String example;
                 String groovyExample;
-                if (models.containsKey(op.returnType)) {
+                if (op.vendorExtensions.containsKey("isReturnFlux")) {
+                    // streamed items are given as a list and wrapped with Flux.fromIterable in the templates
+                    String listType = "List<" + op.returnBaseType + ">";
+                    example = op.isResponseFile ? "List.of()" : getExampleValue(null, null, listType, false, null,
+                            op.returnBaseType, null, null, false, false);
+                    groovyExample = op.isResponseFile ? "[]" : getExampleValue(null, null, listType, false, null,
+                            op.returnBaseType, null, null, true, false);
+                } else if (models.containsKey(op.returnType)) {
                     CodegenModel m = models.get(op.returnType);
                     List<Object> allowableValues = null;
                     if (m.allowableValues != null && m.allowableValues.containsKey("values")) {
@@ -898,6 +936,28 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     }
 
     private void processOperationWithResponseWrappers(CodegenOperation op) {
+        if (Utils.isStreamedFileResponse(op, isGenerateStreamingFileDownload())) {
+            // binary chunks are written as soon as they are emitted, the whole file is never buffered
+            op.imports.remove(op.returnType);
+            op.returnType = "byte[]";
+            op.returnProperty.dataType = op.returnType;
+            op.returnProperty.datatypeWithEnum = op.returnType;
+            // chunks don't need validation annotations
+            op.returnProperty.openApiType = "";
+            wrapOperationReturnType(op, FLUX_CLASS_NAME, false, false);
+            op.vendorExtensions.put("isReturnFlux", true);
+            return;
+        }
+
+        var streamMediaType = Utils.getStreamMediaType(op, streamArrays);
+        if (streamMediaType != null) {
+            // streamed responses can't be wrapped in HttpResponse, elements are written as soon as they are emitted
+            wrapOperationReturnType(op, FLUX_CLASS_NAME, false, true);
+            op.vendorExtensions.put("isReturnFlux", true);
+            Utils.processStreamMediaType(op, streamMediaType);
+            return;
+        }
+
         boolean hasNon200StatusCodes = op.responses.stream().anyMatch(
                 response -> !"200".equals(response.code) && response.code.startsWith("2")
         );
@@ -952,7 +1012,6 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         objs = super.postProcessAllModels(objs);
 
         var isServer = isServer();
-        var random = new Random();
 
         for (ModelsMap models : objs.values()) {
             CodegenModel model = models.getModels().get(0).getModel();
@@ -985,7 +1044,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
             model.vendorExtensions.put("requiredVars", requiredVars);
             model.vendorExtensions.put("optionalVars", optionalVars);
             model.vendorExtensions.put("areRequiredVarsAndReadOnlyVars", !requiredVarsWithoutDiscriminator.isEmpty() && !model.readOnlyVars.isEmpty());
-            model.vendorExtensions.put("serialId", random.nextLong());
+            model.vendorExtensions.put("serialId", Utils.getSerialId(model));
             model.vendorExtensions.put("withRequiredVars", !model.requiredVars.isEmpty());
             if (model.discriminator != null) {
                 model.vendorExtensions.put("hasMappedModels", !model.discriminator.getMappedModels().isEmpty());
@@ -1017,6 +1076,14 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         )) {
             property.vendorExtensions.put("withValid", true);
         }
+        // a required property without null value never needs a boxed type
+        if (primitivePropertyTypes && property.required && !property.isNullable && !property.isDiscriminator
+            && PRIMITIVE_TYPES.containsKey(property.datatypeWithEnum)) {
+            property.vendorExtensions.put("isPrimitive", true);
+            property.vendorExtensions.put("boxedType", property.datatypeWithEnum);
+            property.dataType = PRIMITIVE_TYPES.get(property.datatypeWithEnum);
+            property.datatypeWithEnum = property.dataType;
+        }
 
         processGenericAnnotations(property, useBeanValidation, isGenerateHardNullable(), false, false, false, false);
     }
@@ -1025,6 +1092,10 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         return false;
     }
 
+    public boolean isGenerateStreamingFileDownload() {
+        return false;
+    }
+
     private void processParentModel(CodegenModel model, List<CodegenProperty> requiredVarsWithoutDiscriminator,
                                     List<CodegenProperty> requiredParentVarsWithoutDiscriminator,
                                     List<CodegenProperty> allVars) {
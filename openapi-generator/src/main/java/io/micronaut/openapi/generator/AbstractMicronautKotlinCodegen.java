@@ -25,7 +25,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -88,6 +87,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     public static final String OPT_USE_AUTH = "useAuth";
     public static final String OPT_USE_PLURAL = "plural";
     public static final String OPT_FLUX_FOR_ARRAYS = "fluxForArrays";
+    public static final String OPT_STREAM_ARRAYS = "streamArrays";
     public static final String OPT_GENERATED_ANNOTATION = "generatedAnnotation";
     public static final String OPT_VISITABLE = "visitable";
     public static final String OPT_DATE_LIBRARY_ZONED_DATETIME = "ZONED_DATETIME";
@@ -105,6 +105,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     public static final String OPT_GENERATE_SWAGGER_ANNOTATIONS_FALSE = "false";
     public static final String OPT_GENERATE_OPERATION_ONLY_FOR_FIRST_TAG = "generateOperationOnlyForFirstTag";
     public static final String OPT_KSP = "ksp";
+    public static final String OPT_COROUTINES = "coroutines";
     public static final String CONTENT_TYPE_APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
     public static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
     public static final String CONTENT_TYPE_MULTIPART_FORM_DATA = "multipart/form-data";
@@ -112,6 +113,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final String FLOW_CLASS_NAME = "kotlinx.coroutines.flow.Flow";
 
     protected String dateLibrary;
     protected String title;
@@ -119,10 +121,12 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     protected boolean visitable;
     protected boolean plural = true;
     protected boolean fluxForArrays;
+    protected boolean streamArrays;
     protected boolean generatedAnnotation = true;
     protected String testTool;
     protected boolean requiredPropertiesInConstructor = true;
     protected boolean reactive;
+    protected boolean coroutines;
     protected boolean generateHttpResponseAlways;
     protected boolean generateHttpResponseWhereRequired = true;
     protected boolean ksp;
@@ -239,12 +243,16 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         cliOptions.add(new CliOption(OPT_APPLICATION_NAME, "Micronaut application name (Defaults to the " + CodegenConstants.ARTIFACT_ID + " value)").defaultValue(appName));
         cliOptions.add(CliOption.newBoolean(OPT_USE_PLURAL, "Whether or not to use plural for request body parameter name", plural));
         cliOptions.add(CliOption.newBoolean(OPT_FLUX_FOR_ARRAYS, "Whether or not to use Flux<?> instead Mono<List<?>> for arrays in generated code", fluxForArrays));
+        cliOptions.add(CliOption.newBoolean(OPT_STREAM_ARRAYS, "Whether or not to stream array responses element by element as Flux<?> (Flow<?> with " + OPT_COROUTINES + "). "
+            + "Can be changed for operation by vendor extension " + Utils.EXT_STREAM + ": true, false, json or ndjson", streamArrays));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATED_ANNOTATION, "Generate code with \"@Generated\" annotation", generatedAnnotation));
         cliOptions.add(CliOption.newBoolean(OPT_KSP, "Generate code compatible only with KSP", ksp));
         cliOptions.add(CliOption.newBoolean(USE_BEANVALIDATION, "Use BeanValidation API annotations", useBeanValidation));
         cliOptions.add(CliOption.newBoolean(OPT_VISITABLE, "Generate visitor for subtypes with a discriminator", visitable));
         cliOptions.add(CliOption.newBoolean(OPT_REQUIRED_PROPERTIES_IN_CONSTRUCTOR, "Allow only to create models with all the required properties provided in constructor", requiredPropertiesInConstructor));
         cliOptions.add(CliOption.newBoolean(OPT_REACTIVE, "Make the responses use Reactor Mono as wrapper", reactive));
+        cliOptions.add(CliOption.newBoolean(OPT_COROUTINES, "Generate suspend functions instead of reactive responses. "
+            + "With " + OPT_FLUX_FOR_ARRAYS + " arrays are returned as Flow<?>", coroutines));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "Always wrap the operations response in HttpResponse object", generateHttpResponseAlways));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HTTP_RESPONSE_WHERE_REQUIRED, "Wrap the operations response in HttpResponse object where non-200 HTTP status codes or additional headers are defined", generateHttpResponseWhereRequired));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.HIDE_GENERATION_TIMESTAMP, CodegenConstants.HIDE_GENERATION_TIMESTAMP_DESC, isHideGenerationTimestamp()));
@@ -355,6 +363,10 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         this.reactive = reactive;
     }
 
+    public void setCoroutines(boolean coroutines) {
+        this.coroutines = coroutines;
+    }
+
     public void setTestTool(String testTool) {
         this.testTool = testTool;
     }
@@ -389,6 +401,10 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         this.fluxForArrays = fluxForArrays;
     }
 
+    public void setStreamArrays(boolean streamArrays) {
+        this.streamArrays = streamArrays;
+    }
+
     public void setGeneratedAnnotation(boolean generatedAnnotation) {
         this.generatedAnnotation = generatedAnnotation;
     }
@@ -434,6 +450,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         }
         writePropertyBack(OPT_FLUX_FOR_ARRAYS, fluxForArrays);
 
+        if (additionalProperties.containsKey(OPT_STREAM_ARRAYS)) {
+            streamArrays = convertPropertyToBoolean(OPT_STREAM_ARRAYS);
+        }
+        writePropertyBack(OPT_STREAM_ARRAYS, streamArrays);
+
         if (additionalProperties.containsKey(OPT_GENERATED_ANNOTATION)) {
             generatedAnnotation = convertPropertyToBoolean(OPT_GENERATED_ANNOTATION);
         }
@@ -457,7 +478,15 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         if (additionalProperties.containsKey(OPT_REACTIVE)) {
             reactive = convertPropertyToBoolean(OPT_REACTIVE);
         }
+        if (additionalProperties.containsKey(OPT_COROUTINES)) {
+            coroutines = convertPropertyToBoolean(OPT_COROUTINES);
+        }
+        if (coroutines) {
+            // suspend functions replace reactive wrappers
+            reactive = false;
+        }
         writePropertyBack(OPT_REACTIVE, reactive);
+        writePropertyBack(OPT_COROUTINES, coroutines);
 
         if (additionalProperties.containsKey(OPT_GENERATE_HTTP_RESPONSE_ALWAYS)) {
             generateHttpResponseAlways = convertPropertyToBoolean(OPT_GENERATE_HTTP_RESPONSE_ALWAYS);
@@ -1048,6 +1077,20 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     }
 
     private void processOperationWithResponseWrappers(CodegenOperation op) {
+        var streamMediaType = Utils.getStreamMediaType(op, streamArrays);
+        if (streamMediaType != null) {
+            // streamed responses can't be wrapped in HttpResponse, elements are written as soon as they are emitted
+            if (coroutines) {
+                wrapOperationReturnType(op, FLOW_CLASS_NAME, false, true);
+                op.vendorExtensions.put("isReturnFlow", true);
+            } else {
+                wrapOperationReturnType(op, FLUX_CLASS_NAME, false, true);
+                op.vendorExtensions.put("isReturnFlux", true);
+            }
+            Utils.processStreamMediaType(op, streamMediaType);
+            return;
+        }
+
         boolean hasNon200StatusCodes = op.responses.stream().anyMatch(
             response -> !"200".equals(response.code) && response.code.startsWith("2")
         );
@@ -1057,7 +1100,14 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
             wrapOperationReturnType(op, "io.micronaut.http.HttpResponse", false, false);
         }
 
-        if (reactive) {
+        if (coroutines) {
+            if (fluxForArrays && op.isArray && op.returnProperty.items != null) {
+                wrapOperationReturnType(op, FLOW_CLASS_NAME, false, true);
+                op.vendorExtensions.put("isReturnFlow", true);
+            } else {
+                op.vendorExtensions.put("isSuspend", true);
+            }
+        } else if (reactive) {
             wrapOperationReturnType(op, MONO_CLASS_NAME, false, false);
         }
     }
@@ -1102,7 +1152,6 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         objs = super.postProcessAllModels(objs);
 
         var isServer = isServer();
-        var random = new Random();
 
         for (ModelsMap models : objs.values()) {
             CodegenModel model = models.getModels().get(0).getModel();
@@ -1144,7 +1193,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
             model.vendorExtensions.put("requiredVars", requiredVars);
             model.vendorExtensions.put("withRequiredOrOptionalVars", !requiredVarsWithoutDiscriminator.isEmpty() || !optionalVars.isEmpty());
             model.vendorExtensions.put("optionalVars", optionalVars);
-            model.vendorExtensions.put("serialId", random.nextLong());
+            model.vendorExtensions.put("serialId", Utils.getSerialId(model));
             model.vendorExtensions.put("withRequiredVars", !model.requiredVars.isEmpty());
             if (model.discriminator != null) {
                 model.vendorExtensions.put("hasMappedModels", !model.discriminator.getMappedModels().isEmpty());
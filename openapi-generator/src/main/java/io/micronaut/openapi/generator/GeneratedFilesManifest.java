@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * List of files created by the previous generation. It is used by incremental generation to delete
+ * files of models and operations, which were removed from the specification.
+ *
+ * @since 6.6.0
+ */
+final class GeneratedFilesManifest {
+
+    /**
+     * Manifest path relative to the output directory.
+     */
+    static final String MANIFEST_PATH = ".openapi-generator/micronaut-generated-files";
+
+    private GeneratedFilesManifest() {
+    }
+
+    /**
+     * Deletes files, which were generated by the previous generation, but are not generated now,
+     * and saves the list of current files.
+     *
+     * @param outputDirectory generator output directory
+     * @param generatedFiles files of the current generation
+     *
+     * @return deleted files
+     */
+    static List<Path> update(File outputDirectory, List<File> generatedFiles) {
+        var outputPath = outputDirectory.toPath().toAbsolutePath().normalize();
+        var manifestPath = outputPath.resolve(MANIFEST_PATH);
+        var current = new TreeSet<String>();
+        for (var file : generatedFiles) {
+            var path = file.toPath().toAbsolutePath().normalize();
+            if (path.startsWith(outputPath)) {
+                current.add(toRelativePath(outputPath, path));
+            }
+        }
+        try {
+            var deleted = deleteRemoved(outputPath, read(manifestPath), current);
+            Files.createDirectories(manifestPath.getParent());
+            Files.write(manifestPath, current, UTF_8);
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to update generated files manifest " + manifestPath, e);
+        }
+    }
+
+    private static Set<String> read(Path manifestPath) throws IOException {
+        if (!Files.isRegularFile(manifestPath)) {
+            return Set.of();
+        }
+        return new TreeSet<>(Files.readAllLines(manifestPath, UTF_8));
+    }
+
+    private static List<Path> deleteRemoved(Path outputPath, Set<String> previous, Set<String> current) throws IOException {
+        var deleted = new ArrayList<Path>();
+        for (var relativePath : previous) {
+            if (relativePath.isBlank() || current.contains(relativePath)) {
+                continue;
+            }
+            var path = outputPath.resolve(relativePath).normalize();
+            // never touch files outside the output directory, even if the manifest was edited
+            if (path.startsWith(outputPath) && Files.deleteIfExists(path)) {
+                deleted.add(path);
+            }
+        }
+        return deleted;
+    }
+
+    private static String toRelativePath(Path outputPath, Path path) {
+        return outputPath.relativize(path).toString().replace('\\', '/');
+    }
+}
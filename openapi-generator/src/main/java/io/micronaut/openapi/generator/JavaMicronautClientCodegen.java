@@ -19,10 +19,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.openapitools.codegen.CliOption;
+import org.openapitools.codegen.CodegenOperation;
+import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.SupportingFile;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
+import org.openapitools.codegen.model.ModelMap;
+import org.openapitools.codegen.model.OperationsMap;
 
 /**
  * The generator for creating Micronaut clients.
@@ -33,6 +37,9 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
     public static final String OPT_CONFIGURE_AUTH = "configureAuth";
     public static final String OPT_CONFIGURE_AUTH_FILTER_PATTERN = "configureAuthFilterPattern";
     public static final String OPT_CONFIGURE_CLIENT_ID = "configureClientId";
+    public static final String OPT_GENERATE_PARAMETER_ENCODERS = "generateParameterEncoders";
+    public static final String OPT_GENERATE_RESPONSE_CACHE = "generateResponseCache";
+    public static final String CACHEABLE_EXTENSION = "x-cacheable";
     public static final String ADDITIONAL_CLIENT_TYPE_ANNOTATIONS = "additionalClientTypeAnnotations";
     public static final String AUTHORIZATION_FILTER_PATTERN = "authorizationFilterPattern";
     public static final String BASE_PATH_SEPARATOR = "basePathSeparator";
@@ -40,11 +47,15 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
 
     public static final String NAME = "java-micronaut-client";
 
+    private static final long DEFAULT_RESPONSE_CACHE_TTL = 60;
+
     protected boolean configureAuthorization;
     protected List<String> additionalClientTypeAnnotations;
     protected String authorizationFilterPattern;
     protected String basePathSeparator = "-";
     protected String clientId;
+    protected boolean generateParameterEncoders;
+    protected boolean generateResponseCache;
 
     JavaMicronautClientCodegen() {
 
@@ -60,6 +71,8 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         cliOptions.add(CliOption.newString(AUTHORIZATION_FILTER_PATTERN, "Configure the authorization filter pattern for the client. Generally defined when generating clients from multiple specification files"));
         cliOptions.add(CliOption.newString(BASE_PATH_SEPARATOR, "Configure the separator to use between the application name and base path when referencing the property").defaultValue(basePathSeparator));
         cliOptions.add(CliOption.newString(CLIENT_ID, "Configure the service ID for the Client"));
+        cliOptions.add(CliOption.newBoolean(OPT_GENERATE_PARAMETER_ENCODERS, "Join csv, ssv, tsv and pipes collection parameters with generated binder instead of runtime conversion", generateParameterEncoders));
+        cliOptions.add(CliOption.newBoolean(OPT_GENERATE_RESPONSE_CACHE, "Cache responses of GET operations with x-cacheable extension in a generated client filter", generateResponseCache));
 
         typeMapping.put("file", "byte[]");
         typeMapping.put("responseFile", "InputStream");
@@ -150,6 +163,27 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         }
         writePropertyBack(BASE_PATH_SEPARATOR, this.basePathSeparator);
 
+        if (additionalProperties.containsKey(OPT_GENERATE_PARAMETER_ENCODERS)) {
+            generateParameterEncoders = convertPropertyToBoolean(OPT_GENERATE_PARAMETER_ENCODERS);
+        }
+        writePropertyBack(OPT_GENERATE_PARAMETER_ENCODERS, generateParameterEncoders);
+        if (generateParameterEncoders) {
+            final String encodingFolder = invokerFolder + "/encoding";
+            supportingFiles.add(new SupportingFile("client/encoding/EncodedParameter.mustache", encodingFolder, "EncodedParameter.java"));
+            supportingFiles.add(new SupportingFile("client/encoding/EncodedParameterBinder.mustache", encodingFolder, "EncodedParameterBinder.java"));
+        }
+
+        if (additionalProperties.containsKey(OPT_GENERATE_RESPONSE_CACHE)) {
+            generateResponseCache = convertPropertyToBoolean(OPT_GENERATE_RESPONSE_CACHE);
+        }
+        writePropertyBack(OPT_GENERATE_RESPONSE_CACHE, generateResponseCache);
+        if (generateResponseCache) {
+            final String cacheFolder = invokerFolder + "/cache";
+            supportingFiles.add(new SupportingFile("client/cache/ResponseCache.mustache", cacheFolder, "ResponseCache.java"));
+            supportingFiles.add(new SupportingFile("client/cache/ResponseCacheBinder.mustache", cacheFolder, "ResponseCacheBinder.java"));
+            supportingFiles.add(new SupportingFile("client/cache/ResponseCacheFilter.mustache", cacheFolder, "ResponseCacheFilter.java"));
+        }
+
         // Api file
         apiTemplateFiles.clear();
         apiTemplateFiles.put("client/api.mustache", ".java");
@@ -169,6 +203,86 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         apiDocTemplateFiles.put("client/doc/api_doc.mustache", ".md");
     }
 
+    @Override
+    public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
+        objs = super.postProcessOperationsWithModels(objs, allModels);
+        if (generateParameterEncoders) {
+            for (CodegenOperation op : objs.getOperations().getOperation()) {
+                for (CodegenParameter param : op.allParams) {
+                    var separator = getEncodedSeparator(param);
+                    if (separator != null) {
+                        param.vendorExtensions.put("encodedSeparator", separator);
+                    }
+                }
+            }
+        }
+        if (generateResponseCache) {
+            for (CodegenOperation op : objs.getOperations().getOperation()) {
+                var ttl = getResponseCacheTtl(op);
+                if (ttl != null) {
+                    op.vendorExtensions.put("responseCacheTtl", ttl);
+                }
+            }
+        }
+        return objs;
+    }
+
+    /**
+     * Returns time to live in seconds of cached responses of GET operation with {@code x-cacheable} extension.
+     * The extension value is either {@code true} to use the default time to live or a number of seconds.
+     * Streamed responses and files aren't cached, because the cache holds the whole response body.
+     *
+     * @param op operation
+     *
+     * @return time to live or null, if the operation isn't cacheable
+     */
+    private static Long getResponseCacheTtl(CodegenOperation op) {
+        var cacheable = op.vendorExtensions.get(CACHEABLE_EXTENSION);
+        if (cacheable == null || !"GET".equalsIgnoreCase(op.httpMethod)
+                || op.vendorExtensions.containsKey("isReturnFlux") || op.isResponseFile) {
+            return null;
+        }
+        if (cacheable instanceof Number number) {
+            return number.longValue() > 0 ? number.longValue() : null;
+        }
+        var value = cacheable.toString().trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return DEFAULT_RESPONSE_CACHE_TTL;
+        }
+        try {
+            var ttl = Long.parseLong(value);
+            return ttl > 0 ? ttl : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns java literal of the collection format separator, if the parameter can be joined by the generated binder.
+     * Exploded parameters, dates, which require format, and parameters with default values are bound by Micronaut.
+     *
+     * @param param parameter
+     *
+     * @return separator literal or null
+     */
+    private static String getEncodedSeparator(CodegenParameter param) {
+        if (!param.isArray || param.defaultValue != null || !(param.isQueryParam || param.isHeaderParam)
+            || param.items == null || param.items.isDate || param.items.isDateTime) {
+            return null;
+        }
+        var collectionFormat = param.collectionFormat == null && param.isHeaderParam ? "csv" : param.collectionFormat;
+        if (collectionFormat == null) {
+            return null;
+        }
+        return switch (collectionFormat) {
+            case "csv" -> ",";
+            case "ssv" -> " ";
+            case "tsv" -> "\\t";
+            case "pipes" -> "|";
+            default -> null;
+        };
+    }
+
     @Override
     public boolean isServer() {
         return false;
@@ -194,6 +308,14 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         this.configureAuthorization = configureAuthorization;
     }
 
+    public void setGenerateParameterEncoders(boolean generateParameterEncoders) {
+        this.generateParameterEncoders = generateParameterEncoders;
+    }
+
+    public void setGenerateResponseCache(boolean generateResponseCache) {
+        this.generateResponseCache = generateResponseCache;
+    }
+
     @Override
     public JavaMicronautClientOptionsBuilder optionsBuilder() {
         return new DefaultClientOptionsBuilder();
@@ -209,7 +331,11 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         private boolean lombok;
         private boolean plural;
         private boolean fluxForArrays;
+        private boolean streamArrays;
+        private boolean primitivePropertyTypes;
         private boolean generatedAnnotation = true;
+        private boolean parameterEncoders;
+        private boolean responseCache;
 
         @Override
         public JavaMicronautClientOptionsBuilder withAuthorization(boolean useAuth) {
@@ -259,12 +385,36 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautClientOptionsBuilder withStreamArrays(boolean streamArrays) {
+            this.streamArrays = streamArrays;
+            return this;
+        }
+
+        @Override
+        public JavaMicronautClientOptionsBuilder withPrimitivePropertyTypes(boolean primitivePropertyTypes) {
+            this.primitivePropertyTypes = primitivePropertyTypes;
+            return this;
+        }
+
         @Override
         public JavaMicronautClientOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation) {
             this.generatedAnnotation = generatedAnnotation;
             return this;
         }
 
+        @Override
+        public JavaMicronautClientOptionsBuilder withParameterEncoders(boolean parameterEncoders) {
+            this.parameterEncoders = parameterEncoders;
+            return this;
+        }
+
+        @Override
+        public JavaMicronautClientOptionsBuilder withResponseCache(boolean responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
         ClientOptions build() {
             return new ClientOptions(
                 additionalClientTypeAnnotations,
@@ -275,7 +425,11 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
                 lombok,
                 plural,
                 fluxForArrays,
-                generatedAnnotation
+                streamArrays,
+                primitivePropertyTypes,
+                generatedAnnotation,
+                parameterEncoders,
+                responseCache
             );
         }
     }
@@ -289,7 +443,11 @@ public class JavaMicronautClientCodegen extends AbstractMicronautJavaCodegen<Jav
         boolean lombok,
         boolean plural,
         boolean fluxForArrays,
-        boolean generatedAnnotation
+        boolean streamArrays,
+        boolean primitivePropertyTypes,
+        boolean generatedAnnotation,
+        boolean parameterEncoders,
+        boolean responseCache
     ) {
     }
 }
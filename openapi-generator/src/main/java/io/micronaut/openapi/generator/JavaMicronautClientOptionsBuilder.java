@@ -95,6 +95,28 @@ public interface JavaMicronautClientOptionsBuilder extends GeneratorOptionsBuild
      */
     JavaMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, array responses will be streamed element by element instead of buffering the whole array.
+     * Can be changed for operation by vendor extension {@code x-stream}: {@code true}, {@code false},
+     * {@code json} or {@code ndjson}.
+     *
+     * @param streamArrays stream array responses or not
+     *
+     * @return this builder
+     */
+    JavaMicronautClientOptionsBuilder withStreamArrays(boolean streamArrays);
+
+    /**
+     * If set to true, required not nullable integer, number and boolean model properties will have primitive types.
+     *
+     * @param primitivePropertyTypes generate primitive property types or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautClientOptionsBuilder withPrimitivePropertyTypes(boolean primitivePropertyTypes);
+
     /**
      * If set to true, generated code will be with jakarta.annotation.Generated annotation.
      *
@@ -103,4 +125,28 @@ public interface JavaMicronautClientOptionsBuilder extends GeneratorOptionsBuild
      * @return this builder
      */
     JavaMicronautClientOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation);
+
+    /**
+     * If set to true, query and header collection parameters with csv, ssv, tsv or pipes format
+     * will be joined by generated binder instead of runtime conversion.
+     *
+     * @param parameterEncoders generate parameter encoders or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautClientOptionsBuilder withParameterEncoders(boolean parameterEncoders);
+
+    /**
+     * If set to true, responses of GET operations with x-cacheable extension will be cached
+     * by generated client filter.
+     *
+     * @param responseCache generate response cache or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautClientOptionsBuilder withResponseCache(boolean responseCache);
 }
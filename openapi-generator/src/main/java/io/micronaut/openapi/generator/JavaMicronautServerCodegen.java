@@ -45,9 +45,13 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     public static final String OPT_GENERATE_OPERATIONS_TO_RETURN_NOT_IMPLEMENTED = "generateOperationsToReturnNotImplemented";
     public static final String OPT_GENERATE_HARD_NULLABLE = "generateHardNullable";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
+    public static final String OPT_GENERATE_STREAMING_FILE_DOWNLOAD = "generateStreamingFileDownload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
+    public static final String OPT_GENERATE_ETAG_OPERATIONS = "generateETagOperations";
 
     public static final String EXTENSION_ROLES = "x-roles";
+    public static final String EXTENSION_ETAG = "x-etag";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
     public static final String ANONYMOUS_ROLE = "SecurityRule.IS_ANONYMOUS";
     public static final String AUTHORIZED_ROLE_KEY = "isAuthorized()";
@@ -70,7 +74,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     protected boolean useAuth = true;
     protected boolean generateHardNullable = true;
     protected boolean generateStreamingFileUpload;
+    protected boolean generateStreamingFileDownload;
     protected boolean aot;
+    protected boolean generateETagOperations;
+    protected String executeOn;
 
     JavaMicronautServerCodegen() {
 
@@ -96,7 +103,13 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         cliOptions.add(CliOption.newBoolean(OPT_USE_AUTH, "Whether to import authorization and to annotate controller methods accordingly", useAuth));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HARD_NULLABLE, "Whether to generate and use an inherited nullable annotation", generateHardNullable));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
+        cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_DOWNLOAD, "Whether to generate Flux<byte[]> instead of FileCustomizableResponseType for binary response body. "
+            + "Can be changed for operation by vendor extension " + Utils.EXT_STREAM, generateStreamingFileDownload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(new CliOption(OPT_EXECUTE_ON, "Executor for non-reactive controller operations: blocking, virtual, io or custom executor name. "
+            + "Executor can be set by vendor extension x-execute-on of operation, tag or API root"));
+        cliOptions.add(CliOption.newBoolean(OPT_GENERATE_ETAG_OPERATIONS, "Whether to return 304 Not Modified for GET operations with x-etag extension, "
+            + "when the entity tag supplied by implementation matches If-None-Match header", generateETagOperations));
 
 
         // Set the type mappings
@@ -144,6 +157,14 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
+    public void setGenerateETagOperations(boolean generateETagOperations) {
+        this.generateETagOperations = generateETagOperations;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -185,6 +206,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_HARD_NULLABLE)) {
             generateHardNullable = convertPropertyToBoolean(OPT_GENERATE_HARD_NULLABLE);
         }
@@ -195,6 +220,20 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         }
         writePropertyBack(OPT_GENERATE_STREAMING_FILE_UPLOAD, generateStreamingFileUpload);
 
+        if (additionalProperties.containsKey(OPT_GENERATE_STREAMING_FILE_DOWNLOAD)) {
+            generateStreamingFileDownload = convertPropertyToBoolean(OPT_GENERATE_STREAMING_FILE_DOWNLOAD);
+        }
+        writePropertyBack(OPT_GENERATE_STREAMING_FILE_DOWNLOAD, generateStreamingFileDownload);
+
+        if (additionalProperties.containsKey(OPT_GENERATE_ETAG_OPERATIONS)) {
+            generateETagOperations = convertPropertyToBoolean(OPT_GENERATE_ETAG_OPERATIONS);
+        }
+        writePropertyBack(OPT_GENERATE_ETAG_OPERATIONS, generateETagOperations);
+        if (generateETagOperations) {
+            String folder = (sourceFolder + '.' + invokerPackage + ".etag").replace('.', File.separatorChar);
+            supportingFiles.add(new SupportingFile("server/etag/ETags.mustache", folder, "ETags.java"));
+        }
+
         // Api file
         apiTemplateFiles.clear();
         setApiNamePrefix(API_PREFIX);
@@ -278,6 +317,15 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         return generateHardNullable;
     }
 
+    @Override
+    public boolean isGenerateStreamingFileDownload() {
+        return generateStreamingFileDownload;
+    }
+
+    public void setGenerateStreamingFileDownload(boolean generateStreamingFileDownload) {
+        this.generateStreamingFileDownload = generateStreamingFileDownload;
+    }
+
     @Override
     public OperationsMap postProcessOperationsWithModels(OperationsMap objs, List<ModelMap> allModels) {
         objs = super.postProcessOperationsWithModels(objs, allModels);
@@ -305,10 +353,46 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
                 }
             }
         }
+        Utils.processExecuteOn(openAPI, objs, allOperations, executeOn, reactive);
+        if (generateETagOperations) {
+            for (CodegenOperation operation : allOperations) {
+                processETagOperation(operation);
+            }
+        }
 
         return objs;
     }
 
+    /**
+     * Marks GET operation with {@code x-etag} extension as conditional. The route method of the operation
+     * returns HttpResponse and invokes the body method only if the entity tag doesn't match If-None-Match header.
+     *
+     * @param op operation
+     */
+    private void processETagOperation(CodegenOperation op) {
+        var etag = op.vendorExtensions.get(EXTENSION_ETAG);
+        if (etag == null || !Boolean.parseBoolean(etag.toString()) || !"GET".equalsIgnoreCase(op.httpMethod)
+            || op.returnType == null || op.vendorExtensions.containsKey("isReturnFlux")) {
+            return;
+        }
+        var type = op.returnType;
+        var isReactive = type.startsWith("Mono<");
+        if (isReactive) {
+            type = type.substring("Mono<".length(), type.length() - 1);
+        }
+        var isHttpResponse = type.startsWith("HttpResponse<");
+        if (isHttpResponse) {
+            type = type.substring("HttpResponse<".length(), type.length() - 1);
+        }
+        if ("Void".equals(type)) {
+            return;
+        }
+        var responseType = "HttpResponse<" + type + '>';
+        op.vendorExtensions.put("etagReturnType", isReactive ? "Mono<" + responseType + '>' : responseType);
+        op.vendorExtensions.put("etagReactive", isReactive);
+        op.vendorExtensions.put("etagHttpResponse", isHttpResponse);
+    }
+
     @Override
     public JavaMicronautServerOptionsBuilder optionsBuilder() {
         return new DefaultServerOptionsBuilder();
@@ -324,8 +408,13 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         private boolean lombok;
         private boolean plural = true;
         private boolean fluxForArrays;
+        private boolean streamArrays;
+        private boolean primitivePropertyTypes;
         private boolean generatedAnnotation = true;
         private boolean aot;
+        private String executeOn;
+        private boolean etagOperations;
+        private boolean streamingFileDownload;
 
         @Override
         public JavaMicronautServerOptionsBuilder withControllerPackage(String controllerPackage) {
@@ -375,6 +464,18 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withStreamArrays(boolean streamArrays) {
+            this.streamArrays = streamArrays;
+            return this;
+        }
+
+        @Override
+        public JavaMicronautServerOptionsBuilder withPrimitivePropertyTypes(boolean primitivePropertyTypes) {
+            this.primitivePropertyTypes = primitivePropertyTypes;
+            return this;
+        }
+
         @Override
         public JavaMicronautServerOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation) {
             this.generatedAnnotation = generatedAnnotation;
@@ -387,6 +488,24 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
+        @Override
+        public JavaMicronautServerOptionsBuilder withETagOperations(boolean etagOperations) {
+            this.etagOperations = etagOperations;
+            return this;
+        }
+
+        @Override
+        public JavaMicronautServerOptionsBuilder withStreamingFileDownload(boolean streamingFileDownload) {
+            this.streamingFileDownload = streamingFileDownload;
+            return this;
+        }
+
         ServerOptions build() {
             return new ServerOptions(
                 controllerPackage,
@@ -397,8 +516,13 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
                 lombok,
                 plural,
                 fluxForArrays,
+                streamArrays,
+                primitivePropertyTypes,
                 generatedAnnotation,
-                aot
+                aot,
+                executeOn,
+                etagOperations,
+                streamingFileDownload
             );
         }
     }
@@ -412,8 +536,13 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         boolean lombok,
         boolean plural,
         boolean fluxForArrays,
+        boolean streamArrays,
+        boolean primitivePropertyTypes,
         boolean generatedAnnotation,
-        boolean aot
+        boolean aot,
+        String executeOn,
+        boolean etagOperations,
+        boolean streamingFileDownload
     ) {
     }
 }
@@ -93,6 +93,28 @@ public interface JavaMicronautServerOptionsBuilder extends GeneratorOptionsBuild
      */
     JavaMicronautServerOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, array responses will be streamed element by element instead of buffering the whole array.
+     * Can be changed for operation by vendor extension {@code x-stream}: {@code true}, {@code false},
+     * {@code json} or {@code ndjson}.
+     *
+     * @param streamArrays stream array responses or not
+     *
+     * @return this builder
+     */
+    JavaMicronautServerOptionsBuilder withStreamArrays(boolean streamArrays);
+
+    /**
+     * If set to true, required not nullable integer, number and boolean model properties will have primitive types.
+     *
+     * @param primitivePropertyTypes generate primitive property types or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautServerOptionsBuilder withPrimitivePropertyTypes(boolean primitivePropertyTypes);
+
     /**
      * If set to true, generated code will be with jakarta.annotation.Generated annotation.
      *
@@ -110,4 +132,41 @@ public interface JavaMicronautServerOptionsBuilder extends GeneratorOptionsBuild
      * @return this builder
      */
     JavaMicronautServerOptionsBuilder withAot(boolean aot);
+
+    /**
+     * Sets executor for non-reactive controller operations: {@code blocking}, {@code virtual}, {@code io}
+     * or custom executor name. Generated operations will be annotated with {@code @ExecuteOn}.
+     * Executor can be changed by vendor extension {@code x-execute-on} of the operation, its tag or the API root.
+     *
+     * @param executeOn executor name
+     *
+     * @return this builder
+     */
+    JavaMicronautServerOptionsBuilder withExecuteOn(String executeOn);
+
+    /**
+     * If set to true, GET operations with vendor extension {@code x-etag} will return 304 Not Modified
+     * without invoking the body method, when the entity tag supplied by the implementation matches
+     * If-None-Match request header.
+     *
+     * @param etagOperations generate conditional operations or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautServerOptionsBuilder withETagOperations(boolean etagOperations);
+
+    /**
+     * If set to true, binary responses will be generated as {@code Flux<byte[]>} and written by chunks
+     * instead of {@code FileCustomizableResponseType}. It can be changed for operation by vendor
+     * extension {@code x-stream}.
+     *
+     * @param streamingFileDownload stream binary responses or not
+     *
+     * @return this builder
+     *
+     * @since 6.6.0
+     */
+    JavaMicronautServerOptionsBuilder withStreamingFileDownload(boolean streamingFileDownload);
 }
@@ -206,8 +206,10 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
         private boolean plural;
         private boolean useAuth;
         private boolean fluxForArrays;
+        private boolean streamArrays;
         private boolean generatedAnnotation = true;
         private boolean ksp;
+        private boolean coroutines;
 
         @Override
         public KotlinMicronautClientOptionsBuilder withAuthorization(boolean useAuth) {
@@ -245,6 +247,12 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautClientOptionsBuilder withStreamArrays(boolean streamArrays) {
+            this.streamArrays = streamArrays;
+            return this;
+        }
+
         @Override
         public KotlinMicronautClientOptionsBuilder withPlural(boolean plural) {
             this.plural = plural;
@@ -263,6 +271,12 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautClientOptionsBuilder withCoroutines(boolean coroutines) {
+            this.coroutines = coroutines;
+            return this;
+        }
+
         ClientOptions build() {
             return new ClientOptions(
                 additionalClientTypeAnnotations,
@@ -272,8 +286,10 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
                 useAuth,
                 plural,
                 fluxForArrays,
+                streamArrays,
                 generatedAnnotation,
-                ksp
+                ksp,
+                coroutines
             );
         }
     }
@@ -286,8 +302,10 @@ public class KotlinMicronautClientCodegen extends AbstractMicronautKotlinCodegen
         boolean useAuth,
         boolean plural,
         boolean fluxForArrays,
+        boolean streamArrays,
         boolean generatedAnnotation,
-        boolean ksp
+        boolean ksp,
+        boolean coroutines
     ) {
     }
 }
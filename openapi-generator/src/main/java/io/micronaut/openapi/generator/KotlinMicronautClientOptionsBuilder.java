@@ -77,6 +77,17 @@ public interface KotlinMicronautClientOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, array responses will be streamed element by element instead of buffering the whole array.
+     * Can be changed for operation by vendor extension {@code x-stream}: {@code true}, {@code false},
+     * {@code json} or {@code ndjson}.
+     *
+     * @param streamArrays stream array responses or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautClientOptionsBuilder withStreamArrays(boolean streamArrays);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -103,4 +114,14 @@ public interface KotlinMicronautClientOptionsBuilder extends GeneratorOptionsBui
      * @return this builder
      */
     KotlinMicronautClientOptionsBuilder withKsp(boolean ksp);
+
+    /**
+     * If set to true, operations will be generated as suspend functions instead of reactive ones.
+     * Together with {@code fluxForArrays} array responses will be generated as {@code Flow<?>}.
+     *
+     * @param coroutines generate code with kotlin coroutines or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautClientOptionsBuilder withCoroutines(boolean coroutines);
 }
@@ -45,6 +45,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     public static final String OPT_GENERATE_OPERATIONS_TO_RETURN_NOT_IMPLEMENTED = "generateOperationsToReturnNotImplemented";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
 
     public static final String EXTENSION_ROLES = "x-roles";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
@@ -69,6 +70,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     protected boolean useAuth = true;
     protected boolean generateStreamingFileUpload;
     protected boolean aot;
+    protected String executeOn;
 
     KotlinMicronautServerCodegen() {
 
@@ -94,6 +96,8 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         cliOptions.add(CliOption.newBoolean(OPT_USE_AUTH, "Whether to import authorization and to annotate controller methods accordingly", useAuth));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(new CliOption(OPT_EXECUTE_ON, "Executor for non-reactive controller operations: blocking, virtual, io or custom executor name. "
+            + "Executor can be set by vendor extension x-execute-on of operation, tag or API root"));
 
         // Set the type mappings
         // It could be also StreamingFileUpload
@@ -140,6 +144,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -181,6 +189,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_STREAMING_FILE_UPLOAD)) {
             generateStreamingFileUpload = convertPropertyToBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD);
         }
@@ -283,6 +295,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
                 }
             }
         }
+        Utils.processExecuteOn(openAPI, objs, allOperations, executeOn, reactive || coroutines);
 
         return objs;
     }
@@ -301,9 +314,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         private boolean plural = true;
         private boolean useAuth = true;
         private boolean fluxForArrays;
+        private boolean streamArrays;
         private boolean generatedAnnotation = true;
         private boolean aot;
+        private String executeOn;
         private boolean ksp;
+        private boolean coroutines;
 
         @Override
         public KotlinMicronautServerOptionsBuilder withControllerPackage(String controllerPackage) {
@@ -341,6 +357,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withStreamArrays(boolean streamArrays) {
+            this.streamArrays = streamArrays;
+            return this;
+        }
+
         @Override
         public KotlinMicronautServerOptionsBuilder withPlural(boolean plural) {
             this.plural = plural;
@@ -359,12 +381,24 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
         @Override
         public KotlinMicronautServerOptionsBuilder withKsp(boolean ksp) {
             this.ksp = ksp;
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withCoroutines(boolean coroutines) {
+            this.coroutines = coroutines;
+            return this;
+        }
+
         ServerOptions build() {
             return new ServerOptions(
                 controllerPackage,
@@ -374,9 +408,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
                 useAuth,
                 plural,
                 fluxForArrays,
+                streamArrays,
                 generatedAnnotation,
                 aot,
-                ksp
+                ksp,
+                executeOn,
+                coroutines
             );
         }
     }
@@ -389,9 +426,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         boolean useAuth,
         boolean plural,
         boolean fluxForArrays,
+        boolean streamArrays,
         boolean generatedAnnotation,
         boolean aot,
-        boolean ksp
+        boolean ksp,
+        String executeOn,
+        boolean coroutines
     ) {
     }
 }
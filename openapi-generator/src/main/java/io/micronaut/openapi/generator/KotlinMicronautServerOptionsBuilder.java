@@ -75,6 +75,17 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautServerOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, array responses will be streamed element by element instead of buffering the whole array.
+     * Can be changed for operation by vendor extension {@code x-stream}: {@code true}, {@code false},
+     * {@code json} or {@code ndjson}.
+     *
+     * @param streamArrays stream array responses or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withStreamArrays(boolean streamArrays);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -110,4 +121,25 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      * @return this builder
      */
     KotlinMicronautServerOptionsBuilder withKsp(boolean ksp);
+
+    /**
+     * Sets executor for non-reactive controller operations: {@code blocking}, {@code virtual}, {@code io}
+     * or custom executor name. Generated operations will be annotated with {@code @ExecuteOn}.
+     * Executor can be changed by vendor extension {@code x-execute-on} of the operation, its tag or the API root.
+     *
+     * @param executeOn executor name
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn);
+
+    /**
+     * If set to true, operations will be generated as suspend functions instead of reactive ones.
+     * Together with {@code fluxForArrays} array responses will be generated as {@code Flow<?>}.
+     *
+     * @param coroutines generate code with kotlin coroutines or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withCoroutines(boolean coroutines);
 }
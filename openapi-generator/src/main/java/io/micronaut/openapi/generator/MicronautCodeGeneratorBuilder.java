@@ -134,6 +134,41 @@ public interface MicronautCodeGeneratorBuilder {
      */
     MicronautCodeGeneratorBuilder withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind... elements);
 
+    /**
+     * Sets number of threads used to render model and API files. Codegen models are still
+     * processed once, only template execution and file writes run in parallel.
+     * Default value is 1: files are generated sequentially.
+     *
+     * @param parallelism the number of rendering threads
+     * @return this builder
+     * @since 6.6.0
+     */
+    MicronautCodeGeneratorBuilder withParallelism(int parallelism);
+
+    /**
+     * Enables incremental generation. Files with unchanged content are not rewritten, and files
+     * of models and operations removed from the definition since the previous incremental
+     * generation are deleted. The list of generated files is stored in the output directory.
+     *
+     * @param incremental the incremental generation flag
+     * @return this builder
+     * @since 6.6.0
+     */
+    MicronautCodeGeneratorBuilder withIncremental(boolean incremental);
+
+    /**
+     * Enables cache of parsed definitions. Definitions are cached by location and content hash
+     * in memory, so later generations from the same definition file in the same class loader
+     * don't parse and resolve it again. The cache is useful when many generators run in one
+     * build process. Definitions with external references shouldn't be cached, as only
+     * the main definition file is checked for changes.
+     *
+     * @param definitionCache the definition cache flag
+     * @return this builder
+     * @since 6.6.0
+     */
+    MicronautCodeGeneratorBuilder withDefinitionCache(boolean definitionCache);
+
     /**
      * Configures the code generation options.
      *
@@ -26,6 +26,7 @@ import java.util.function.Consumer;
 
 import io.micronaut.openapi.generator.MicronautCodeGeneratorOptionsBuilder.GeneratorLanguage;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
 
 import org.openapitools.codegen.ClientOptInput;
@@ -47,6 +48,9 @@ public final class MicronautCodeGeneratorEntryPoint {
     private final JavaMicronautClientCodegen.ClientOptions javaClientOptions;
     private final KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
     private final KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+    private final int parallelism;
+    private final boolean incremental;
+    private final boolean definitionCache;
 
     private MicronautCodeGeneratorEntryPoint(URI definitionFile,
                                              File outputDirectory,
@@ -56,7 +60,10 @@ public final class MicronautCodeGeneratorEntryPoint {
                                              JavaMicronautServerCodegen.ServerOptions javaServerOptions,
                                              JavaMicronautClientCodegen.ClientOptions javaClientOptions,
                                              KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions,
-                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions
+                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions,
+                                             int parallelism,
+                                             boolean incremental,
+                                             boolean definitionCache
                                              ) {
         this.definitionFile = definitionFile;
         this.outputDirectory = outputDirectory;
@@ -67,6 +74,9 @@ public final class MicronautCodeGeneratorEntryPoint {
         this.javaClientOptions = javaClientOptions;
         this.kotlinServerOptions = kotlinServerOptions;
         this.kotlinClientOptions = kotlinClientOptions;
+        this.parallelism = parallelism;
+        this.incremental = incremental;
+        this.definitionCache = definitionCache;
     }
 
     private static void withPath(File file, Consumer<? super String> action) {
@@ -85,8 +95,7 @@ public final class MicronautCodeGeneratorEntryPoint {
      * Performs code generation.
      */
     public void generate() {
-        var openAPI = new OpenAPIParser()
-            .readLocation(definitionFile.toString(), null, new ParseOptions()).getOpenAPI();
+        var openAPI = readDefinition();
 
         // Configure codegen
         withPath(outputDirectory, codeGenerator::setOutputDir);
@@ -99,6 +108,10 @@ public final class MicronautCodeGeneratorEntryPoint {
         }
 
         configureOptions();
+        if (incremental) {
+            // files with unchanged content are not rewritten, so their timestamps are not changed
+            codeGenerator.setEnableMinimalUpdate(true);
+        }
 
         // Create input
         var input = new ClientOptInput();
@@ -106,7 +119,7 @@ public final class MicronautCodeGeneratorEntryPoint {
         input.config(codeGenerator);
 
         // Generate
-        DefaultGenerator generator = new DefaultGenerator();
+        DefaultGenerator generator = parallelism > 1 ? new ParallelGenerator(parallelism) : new DefaultGenerator();
         for (OutputKind outputKind : OutputKind.values()) {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "false");
         }
@@ -114,7 +127,18 @@ public final class MicronautCodeGeneratorEntryPoint {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "true");
         }
 
-        generator.opts(input).generate();
+        var files = generator.opts(input).generate();
+        if (incremental && outputDirectory != null) {
+            GeneratedFilesManifest.update(outputDirectory, files);
+        }
+    }
+
+    private OpenAPI readDefinition() {
+        if (definitionCache) {
+            return ParsedDefinitionCache.read(definitionFile);
+        }
+        return new OpenAPIParser()
+            .readLocation(definitionFile.toString(), null, new ParseOptions()).getOpenAPI();
     }
 
     private void configureOptions() {
@@ -190,7 +214,12 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaServerCodegen.setLombok(javaServerOptions.lombok());
             javaServerCodegen.setPlural(javaServerOptions.plural());
             javaServerCodegen.setFluxForArrays(javaServerOptions.fluxForArrays());
+            javaServerCodegen.setStreamArrays(javaServerOptions.streamArrays());
+            javaServerCodegen.setPrimitivePropertyTypes(javaServerOptions.primitivePropertyTypes());
             javaServerCodegen.setGeneratedAnnotation(javaServerOptions.generatedAnnotation());
+            javaServerCodegen.setExecuteOn(javaServerOptions.executeOn());
+            javaServerCodegen.setGenerateETagOperations(javaServerOptions.etagOperations());
+            javaServerCodegen.setGenerateStreamingFileDownload(javaServerOptions.streamingFileDownload());
         }
     }
 
@@ -212,7 +241,11 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaClientCodegen.setLombok(javaClientOptions.lombok());
             javaClientCodegen.setPlural(javaClientOptions.plural());
             javaClientCodegen.setFluxForArrays(javaClientOptions.fluxForArrays());
+            javaClientCodegen.setStreamArrays(javaClientOptions.streamArrays());
+            javaClientCodegen.setPrimitivePropertyTypes(javaClientOptions.primitivePropertyTypes());
             javaClientCodegen.setGeneratedAnnotation(javaClientOptions.generatedAnnotation());
+            javaClientCodegen.setGenerateParameterEncoders(javaClientOptions.parameterEncoders());
+            javaClientCodegen.setGenerateResponseCache(javaClientOptions.responseCache());
         }
     }
 
@@ -229,6 +262,9 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinServerCodegen.setUseAuth(kotlinServerOptions.useAuth());
             kotlinServerCodegen.setPlural(kotlinServerOptions.plural());
             kotlinServerCodegen.setFluxForArrays(kotlinServerOptions.fluxForArrays());
+            kotlinServerCodegen.setStreamArrays(kotlinServerOptions.streamArrays());
+            kotlinServerCodegen.setExecuteOn(kotlinServerOptions.executeOn());
+            kotlinServerCodegen.setCoroutines(kotlinServerOptions.coroutines());
         }
     }
 
@@ -251,6 +287,8 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinClientCodegen.setConfigureAuthorization(kotlinClientOptions.useAuth());
             kotlinClientCodegen.setPlural(kotlinClientOptions.plural());
             kotlinClientCodegen.setFluxForArrays(kotlinClientOptions.fluxForArrays());
+            kotlinClientCodegen.setStreamArrays(kotlinClientOptions.streamArrays());
+            kotlinClientCodegen.setCoroutines(kotlinClientOptions.coroutines());
         }
     }
 
@@ -310,6 +348,9 @@ public final class MicronautCodeGeneratorEntryPoint {
         private JavaMicronautClientCodegen.ClientOptions javaClientOptions;
         private KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
         private KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+        private int parallelism = 1;
+        private boolean incremental;
+        private boolean definitionCache;
 
         @Override
         public <B extends GeneratorOptionsBuilder, G extends MicronautCodeGenerator<B>> MicronautCodeGeneratorBuilder forCodeGenerator(G generator, Consumer<? super B> configuration) {
@@ -373,6 +414,27 @@ public final class MicronautCodeGeneratorEntryPoint {
             return this;
         }
 
+        @Override
+        public MicronautCodeGeneratorBuilder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive, but was " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public MicronautCodeGeneratorBuilder withIncremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        @Override
+        public MicronautCodeGeneratorBuilder withDefinitionCache(boolean definitionCache) {
+            this.definitionCache = definitionCache;
+            return this;
+        }
+
         @Override
         public MicronautCodeGeneratorBuilder withOptions(Consumer<? super MicronautCodeGeneratorOptionsBuilder> optionsConfigurer) {
             DefaultOptionsBuilder builder = new DefaultOptionsBuilder();
@@ -400,7 +462,10 @@ public final class MicronautCodeGeneratorEntryPoint {
                 javaServerOptions,
                 javaClientOptions,
                 kotlinServerOptions,
-                kotlinClientOptions
+                kotlinClientOptions,
+                parallelism,
+                incremental,
+                definitionCache
             );
         }
 
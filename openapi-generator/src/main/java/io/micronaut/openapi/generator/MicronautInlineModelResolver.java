@@ -39,8 +39,8 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -65,7 +65,7 @@ public final class MicronautInlineModelResolver {
 
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<SchemaSignature, String> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -371,7 +371,8 @@ public final class MicronautInlineModelResolver {
      * @return {@link Schema} $ref schema to new or existing schema
      */
     private Schema makeSchemaInComponents(String name, Schema schema) {
-        String existing = matchGenerated(schema);
+        SchemaSignature signature = getSignature(schema);
+        String existing = signature != null ? generatedSignature.get(signature) : null;
         Schema refSchema;
         if (existing != null) {
             refSchema = new Schema().$ref(existing);
@@ -379,7 +380,7 @@ public final class MicronautInlineModelResolver {
             if (resolveInlineEnums && schema.getEnum() != null && schema.getEnum().size() > 0) {
                 LOGGER.warn("Model {} promoted to its own schema due to resolveInlineEnums=true", name);
             }
-            name = addSchemas(name, schema);
+            name = addSchemas(name, schema, signature);
             refSchema = new Schema().$ref(name);
         }
         copyVendorExtensions(schema, refSchema);
@@ -403,17 +404,22 @@ public final class MicronautInlineModelResolver {
         }
     }
 
-    private String matchGenerated(Schema model) {
+    /**
+     * Returns structural signature of the schema. Nested schemas, which need their own models, are already
+     * replaced with $ref when the signature is computed, so every schema node is converted only once.
+     *
+     * @param model schema
+     *
+     * @return signature or null, if the schema can't be converted
+     */
+    private SchemaSignature getSignature(Schema model) {
         try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+            JsonNode tree = structureMapper.valueToTree(model);
+            return new SchemaSignature(tree.hashCode(), tree);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unable to compute signature of inline schema: {}", e.getMessage());
+            return null;
         }
-
-        return null;
     }
 
     /**
@@ -502,16 +508,19 @@ public final class MicronautInlineModelResolver {
      *
      * @param name name of the inline schema
      * @param schema inline schema
+     * @param signature structural signature of the inline schema
      *
      * @return the actual model name (based on inlineSchemaNameMapping if provided)
      */
-    private String addSchemas(String name, Schema schema) {
+    private String addSchemas(String name, Schema schema, SchemaSignature signature) {
         //check inlineSchemaNameMapping
         if (inlineSchemaNameMapping.containsKey(name)) {
             name = inlineSchemaNameMapping.get(name);
         }
 
-        addGenerated(name, schema);
+        if (signature != null) {
+            generatedSignature.put(signature, name);
+        }
         openAPI.getComponents().addSchemas(name, schema);
         if (!name.equals(schema.getTitle()) && !inlineSchemaNameMappingValues.contains(name)) {
             LOGGER.info("Inline schema created as {}. To have complete control of the model name, set the `title` field or use the modelNameMapping option (e.g. --model-name-mappings {}=NewModel,ModelA=NewModelA in CLI) or inlineSchemaNameMapping option (--inline-schema-name-mappings {}=NewModel,ModelA=NewModelA in CLI).", name, name, name);
@@ -522,15 +531,6 @@ public final class MicronautInlineModelResolver {
         return name;
     }
 
-    private void addGenerated(String name, Schema model) {
-        try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-        }
-    }
-
     /**
      * Generate a unique name for the input.
      *
@@ -550,4 +550,24 @@ public final class MicronautInlineModelResolver {
             uniqueName = name + "_" + ++count;
         }
     }
+
+    /**
+     * Structural signature of schema. Hash is computed once, full structural comparison
+     * is done only for schemas with equal hashes.
+     *
+     * @param hash structure hash
+     * @param tree schema structure
+     */
+    private record SchemaSignature(int hash, JsonNode tree) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof SchemaSignature other && hash == other.hash && tree.equals(other.tree);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
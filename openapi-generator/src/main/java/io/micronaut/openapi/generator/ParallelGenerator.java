@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.DefaultGenerator;
+
+/**
+ * Generator, which renders model and API templates in parallel. Codegen models and operations are
+ * processed once on the calling thread as usual, only template execution and file writes are
+ * distributed across a fixed thread pool. Content of every file doesn't depend on the rendering
+ * order, so the output is the same as the output of the sequential generation. Supporting files
+ * and the generator metadata are written on the calling thread after all model and API files.
+ *
+ * @since 6.6.0
+ */
+final class ParallelGenerator extends DefaultGenerator {
+
+    private final int parallelism;
+    private final List<Future<File>> pending = new ArrayList<>();
+    private ExecutorService executor;
+
+    /**
+     * Create generator.
+     *
+     * @param parallelism number of rendering threads
+     */
+    ParallelGenerator(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public List<File> generate() {
+        var threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, r -> {
+            var thread = new Thread(r, "openapi-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var files = super.generate();
+            awaitPending();
+            return files;
+        } finally {
+            executor.shutdownNow();
+            pending.clear();
+        }
+    }
+
+    @Override
+    protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption) throws IOException {
+        if (CodegenConstants.SUPPORTING_FILES.equals(skippedByOption)) {
+            // supporting files are followed by .openapi-generator metadata, which must list only written files
+            awaitPending();
+            return super.processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption);
+        }
+        if (!shouldGenerate || executor == null || config.isEnablePostProcessFile()) {
+            // post processors expect the file to exist as soon as it is returned
+            return super.processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption);
+        }
+        var target = new File(outputFilename.replaceAll("//", "/").replace('/', File.separatorChar));
+        if (!ignoreProcessor.allowsFile(target)) {
+            // reported as ignored by the sequential implementation, but never returned as generated file
+            super.processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption);
+            return null;
+        }
+        pending.add(executor.submit(() -> super.processTemplateToFile(templateData, templateName, outputFilename, true, skippedByOption)));
+        return target;
+    }
+
+    private void awaitPending() {
+        var futures = new ArrayList<>(pending);
+        pending.clear();
+        for (var future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Code generation was interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw new UncheckedIOException(ioException);
+                }
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Could not generate file", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.core.models.ParseOptions;
+
+/**
+ * Cache of parsed and resolved OpenAPI definitions, shared by all generations in the same class loader.
+ * Definitions are identified by location and SHA-256 hash of the definition file content.
+ * Generators modify the OpenAPI model, so the cache stores its serialized form and every
+ * generation gets its own copy. Deserialization of the resolved model is much cheaper than
+ * parsing and resolving the original definition. A definition is cached only if its copy is
+ * equal to the parsed model, otherwise it is parsed by every generation.
+ * <p>
+ * Only the main definition file is hashed: definitions with external references, which can be
+ * changed independently of the main file, shouldn't be generated with the cache.
+ *
+ * @since 6.6.0
+ */
+final class ParsedDefinitionCache {
+
+    private static final int MAX_ENTRIES = 32;
+
+    private static final Map<String, byte[]> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    private ParsedDefinitionCache() {
+    }
+
+    /**
+     * Read OpenAPI definition, using the cached model if the definition file wasn't changed.
+     *
+     * @param definitionFile definition location
+     *
+     * @return parsed OpenAPI model, owned by the caller
+     */
+    static OpenAPI read(URI definitionFile) {
+        if (!"file".equals(definitionFile.getScheme())) {
+            return parse(definitionFile);
+        }
+        var key = definitionFile + "#" + sha256(Path.of(definitionFile));
+        var cached = CACHE.get(key);
+        try {
+            if (cached != null) {
+                return Json.mapper().readValue(cached, OpenAPI.class);
+            }
+            var openAPI = parse(definitionFile);
+            // the default mapper is only able to read OpenAPI 3.0 models back
+            if (openAPI != null && openAPI.getSpecVersion() == SpecVersion.V30) {
+                var serialized = Json.mapper().writeValueAsBytes(openAPI);
+                // models changed by the round trip, e.g. by date examples in some time zones, are parsed every time
+                if (openAPI.equals(Json.mapper().readValue(serialized, OpenAPI.class))) {
+                    CACHE.put(key, serialized);
+                }
+            }
+            return openAPI;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to copy OpenAPI definition " + definitionFile, e);
+        }
+    }
+
+    /**
+     * Remove all cached definitions.
+     */
+    static void clear() {
+        CACHE.clear();
+    }
+
+    private static OpenAPI parse(URI definitionFile) {
+        return new OpenAPIParser()
+            .readLocation(definitionFile.toString(), null, new ParseOptions()).getOpenAPI();
+    }
+
+    private static String sha256(Path path) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read OpenAPI definition " + path, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
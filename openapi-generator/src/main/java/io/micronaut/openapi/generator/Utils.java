@@ -15,11 +15,19 @@
  */
 package io.micronaut.openapi.generator;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.tags.Tag;
 import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenOperation;
 import org.openapitools.codegen.CodegenParameter;
 import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.model.OperationsMap;
 
 /**
  * Utilities methods to generators.
@@ -29,6 +37,12 @@ import org.openapitools.codegen.CodegenProperty;
 public final class Utils {
 
     public static final String DEFAULT_BODY_PARAM_NAME = "requestBody";
+    public static final String EXT_EXECUTE_ON = "x-execute-on";
+    public static final String EXT_STREAM = "x-stream";
+    public static final String CONTENT_TYPE_APPLICATION_JSON_STREAM = "application/x-json-stream";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     private Utils() {
     }
@@ -197,6 +211,179 @@ public final class Utils {
         return result.toString();
     }
 
+    /**
+     * Sets executor for {@code @ExecuteOn} annotation of server operations. Vendor extension
+     * {@code x-execute-on} has priority: the extension of operation overrides the extension of its tag,
+     * which overrides the extension of the API root. Executor from generator options is used only
+     * for non-reactive operations without the extension.
+     *
+     * @param openAPI OpenAPI definition
+     * @param objs operations map
+     * @param operations operations
+     * @param executeOn executor from generator options
+     * @param reactive is reactive code generated
+     */
+    public static void processExecuteOn(OpenAPI openAPI, OperationsMap objs, List<CodegenOperation> operations, String executeOn, boolean reactive) {
+        var apiExecutor = openAPI != null && openAPI.getExtensions() != null ? openAPI.getExtensions().get(EXT_EXECUTE_ON) : null;
+        var useExecuteOn = false;
+        for (var operation : operations) {
+            var executor = operation.vendorExtensions.get(EXT_EXECUTE_ON);
+            if (executor == null) {
+                executor = getTagExecutor(openAPI, operation);
+            }
+            if (executor == null) {
+                executor = apiExecutor;
+            }
+            String executorExpression;
+            if (executor != null) {
+                executorExpression = getExecutorExpression(executor.toString());
+            } else {
+                executorExpression = reactive ? null : getExecutorExpression(executeOn);
+            }
+            if (executorExpression != null) {
+                operation.vendorExtensions.put("executeOnExecutor", executorExpression);
+                useExecuteOn = true;
+            }
+        }
+        if (useExecuteOn) {
+            objs.put("useExecuteOn", true);
+        }
+    }
+
+    private static Object getTagExecutor(OpenAPI openAPI, CodegenOperation operation) {
+        if (openAPI == null || openAPI.getTags() == null || operation.tags == null) {
+            return null;
+        }
+        for (var operationTag : operation.tags) {
+            for (Tag tag : openAPI.getTags()) {
+                if (tag.getName().equals(operationTag.getName()) && tag.getExtensions() != null && tag.getExtensions().containsKey(EXT_EXECUTE_ON)) {
+                    return tag.getExtensions().get(EXT_EXECUTE_ON);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns executor name expression for {@code @ExecuteOn} annotation.
+     *
+     * @param executor executor: blocking, virtual, io, none or custom executor name
+     *
+     * @return executor name expression or null, if executor is not set
+     */
+    public static String getExecutorExpression(String executor) {
+        if (StringUtils.isBlank(executor)) {
+            return null;
+        }
+        executor = executor.strip();
+        return switch (executor.toLowerCase(Locale.ENGLISH)) {
+            case "none" -> null;
+            case "blocking" -> "TaskExecutors.BLOCKING";
+            case "virtual" -> "TaskExecutors.VIRTUAL";
+            case "io" -> "TaskExecutors.IO";
+            default -> '"' + executor.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+        };
+    }
+
+    /**
+     * Returns media type of streamed array response. Vendor extension {@code x-stream} of operation
+     * has priority: {@code true} or {@code json} - stream JSON array, {@code ndjson} - stream newline delimited
+     * JSON, {@code false} or {@code none} - response is not streamed.
+     *
+     * @param op operation
+     * @param streamArrays stream all array responses by default
+     *
+     * @return media type of streamed response or null, if the response is not streamed
+     */
+    public static String getStreamMediaType(CodegenOperation op, boolean streamArrays) {
+        if (!op.isArray || op.returnProperty == null || op.returnProperty.items == null) {
+            return null;
+        }
+        var stream = op.vendorExtensions.get(EXT_STREAM);
+        if (stream == null) {
+            return streamArrays ? "application/json" : null;
+        }
+        return switch (stream.toString().strip().toLowerCase(Locale.ENGLISH)) {
+            case "false", "none" -> null;
+            case "ndjson" -> CONTENT_TYPE_APPLICATION_JSON_STREAM;
+            default -> "application/json";
+        };
+    }
+
+    /**
+     * Checks if binary response of the operation should be streamed by chunks instead of the file response type.
+     * The default can be changed for operation by vendor extension {@code x-stream}.
+     *
+     * @param op operation
+     * @param streamFileResponses whether binary responses are streamed by default
+     *
+     * @return true, if binary response is streamed
+     */
+    public static boolean isStreamedFileResponse(CodegenOperation op, boolean streamFileResponses) {
+        if (!op.isResponseFile || op.returnProperty == null) {
+            return false;
+        }
+        var stream = op.vendorExtensions.get(EXT_STREAM);
+        if (stream == null) {
+            return streamFileResponses;
+        }
+        return switch (stream.toString().strip().toLowerCase(Locale.ENGLISH)) {
+            case "false", "none" -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Marks operation as streamed and sets its response media type.
+     *
+     * @param op operation
+     * @param mediaType media type of streamed response
+     */
+    public static void processStreamMediaType(CodegenOperation op, String mediaType) {
+        op.vendorExtensions.put("isStream", true);
+        if (CONTENT_TYPE_APPLICATION_JSON_STREAM.equals(mediaType)) {
+            var produces = new HashMap<String, String>();
+            produces.put("mediaType", mediaType);
+            op.produces = List.of(produces);
+            op.hasProduces = true;
+        }
+    }
+
+    /**
+     * Returns serialVersionUID of the model. The value is computed from the model name, parent
+     * and properties, so regeneration from the same specification gives the same value.
+     *
+     * @param model model
+     *
+     * @return serialVersionUID
+     */
+    public static long getSerialId(CodegenModel model) {
+        long hash = hash(FNV_OFFSET_BASIS, model.classname);
+        hash = hash(hash, model.parent);
+        for (var prop : model.vars) {
+            hash = hash(hash, prop.baseName);
+            hash = hash(hash, prop.dataType);
+            hash = hash(hash, prop.required ? "1" : "0");
+        }
+        return hash;
+    }
+
+    /**
+     * FNV-1a hash of the string, continues previous hash value.
+     */
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= FNV_PRIME;
+            }
+        }
+        // separator between values
+        hash ^= 0xff;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
     private static boolean isPrimitive(String type) {
         if (type == null) {
             return false;
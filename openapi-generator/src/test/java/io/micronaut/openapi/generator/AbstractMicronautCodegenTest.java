@@ -8,6 +8,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.regex.Pattern;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -119,6 +121,22 @@ public abstract class AbstractMicronautCodegenTest {
         assertFalse(Paths.get(path).toFile().exists(), "File \"" + path + "\" should not exist");
     }
 
+    public static void assertSameFiles(String expectedPath, String actualPath) {
+        try (var expectedFiles = Files.walk(Paths.get(expectedPath)); var actualFiles = Files.walk(Paths.get(actualPath))) {
+            var expectedRoot = Paths.get(expectedPath);
+            var actualRoot = Paths.get(actualPath);
+            var expected = expectedFiles.filter(Files::isRegularFile).map(expectedRoot::relativize).sorted().toList();
+            var actual = actualFiles.filter(Files::isRegularFile).map(actualRoot::relativize).sorted().toList();
+            assertEquals(expected, actual);
+            assertFalse(expected.isEmpty(), "No files generated");
+            for (var file : expected) {
+                assertArrayEquals(Files.readAllBytes(expectedRoot.resolve(file)), Files.readAllBytes(actualRoot.resolve(file)), "File \"" + file + "\" differs");
+            }
+        } catch (IOException e) {
+            fail("Unable to compare " + expectedPath + " and " + actualPath);
+        }
+    }
+
     public static String readFile(String path) {
         String file = null;
         try {
@@ -232,6 +232,19 @@ class JavaMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(outputPath + "/src/main/java/org/openapitools/auth/AuthorizationFilter.java", "@Filter(Filter.MATCH_ALL_PATTERN)");
     }
 
+    @Test
+    void testAuthorizationFilterTokenCache() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(JavaMicronautClientCodegen.OPT_CONFIGURE_AUTH, "true");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.SUPPORTING_FILES, CodegenConstants.APIS);
+        String filterPath = outputPath + "/src/main/java/org/openapitools/auth/AuthorizationFilter.java";
+
+        assertFileContains(filterPath, "new ConcurrentHashMap<>()", "private final AtomicReference<CachedToken> token = new AtomicReference<>();", "tokenRequest.compareAndSet(null, request)");
+        assertFileContains(filterPath, ".thenMany(Flux.defer(() -> chain.proceed(request)))", "usedTokens.forEach(OauthAuthorizer::evict);",
+            "expiresIn == null ? DEFAULT_TOKEN_LIFETIME_MILLIS : expiresIn * 1000L");
+        assertFileNotContains(filterPath, "switchMap", "Long.MAX_VALUE");
+    }
+
     @Test
     void testAuthorizationFilterPattern() {
         var codegen = new JavaMicronautClientCodegen();
@@ -358,4 +371,150 @@ class JavaMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
             "public String getTitle()",
             "public void setTitle(String title)");
     }
+
+    @Test
+    void testStreamArrays() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.setReactive(false);
+        codegen.setStreamArrays(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/stream.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.java", "import reactor.core.publisher.Flux;");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "Flux<[^>]*Book> listBooks\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@Consumes\\(\"application/x-json-stream\"\\)[^;]{0,200}Flux<[^>]*Book> exportBooks\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "List<[^>]*String> getTitles\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "[^<]Book getBook\\(");
+    }
+
+    @Test
+    void testReproducibleGeneration() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true");
+        codegen.additionalProperties().put(CodegenConstants.SERIALIZABLE_MODEL, "true");
+        String firstOutputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.APIS, CodegenConstants.MODELS);
+
+        codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true");
+        codegen.additionalProperties().put(CodegenConstants.SERIALIZABLE_MODEL, "true");
+        String secondOutputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.APIS, CodegenConstants.MODELS);
+
+        assertFileContainsRegex(firstOutputPath + "src/main/java/org/openapitools/model/Pet.java", "serialVersionUID = -?\\d+L;");
+        assertSameFiles(firstOutputPath, secondOutputPath);
+    }
+
+    @Test
+    void testSameInlineSchemasGenerateOneModel() {
+        var codegen = new JavaMicronautClientCodegen();
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/inline-models.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        String modelPath = outputPath + "src/main/java/org/openapitools/model/";
+
+        assertFileContainsRegex(apiPath + "AuthorsApi.java", "GetAuthor200Response> getAuthor\\(");
+        assertFileContainsRegex(apiPath + "AuthorsApi.java", "GetAuthor200Response> getEditor\\(");
+        assertFileContainsRegex(apiPath + "AuthorsApi.java", "GetStats200Response> getStats\\(");
+        assertFileExists(modelPath + "GetAuthor200ResponseAddress.java");
+        assertFileNotExists(modelPath + "GetEditor200Response.java");
+        assertFileNotExists(modelPath + "GetEditor200ResponseAddress.java");
+    }
+
+    @Test
+    void testParameterEncoders() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.setGenerateParameterEncoders(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/encoded-params.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        String encodingPath = outputPath + "src/main/java/org/openapitools/encoding/";
+
+        assertFileExists(encodingPath + "EncodedParameter.java");
+        assertFileExists(encodingPath + "EncodedParameterBinder.java");
+        assertFileContains(apiPath + "BooksApi.java", "import org.openapitools.encoding.EncodedParameter;",
+            "@EncodedParameter(value = \"tags\", separator = \",\")",
+            "@EncodedParameter(value = \"ids\", separator = \"|\")",
+            "@EncodedParameter(value = \"X-Languages\", location = EncodedParameter.Location.HEADER, separator = \",\")",
+            "@QueryValue(\"authors\")",
+            "@QueryValue(\"dates\")");
+    }
+
+    @Test
+    void testParameterEncodersDisabled() {
+        var codegen = new JavaMicronautClientCodegen();
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/encoded-params.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileNotExists(outputPath + "src/main/java/org/openapitools/encoding/EncodedParameterBinder.java");
+        assertFileNotContains(apiPath + "BooksApi.java", "EncodedParameter");
+        assertFileContains(apiPath + "BooksApi.java", "@QueryValue(\"tags\")", "@Header(name = \"X-Languages\")");
+    }
+
+    @Test
+    void testResponseCache() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.setGenerateResponseCache(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/cacheable.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        String cachePath = outputPath + "src/main/java/org/openapitools/cache/";
+
+        assertFileExists(cachePath + "ResponseCache.java");
+        assertFileExists(cachePath + "ResponseCacheBinder.java");
+        assertFileContains(cachePath + "ResponseCacheFilter.java",
+            "@Filter(Filter.MATCH_ALL_PATTERN)",
+            "HttpHeaders.IF_NONE_MATCH",
+            "requestsInFlight.putIfAbsent(key, load)",
+            "|| hasCredentials(request)",
+            "response.body(jsonMapper.readValue(body, bodyType));");
+        assertFileContains(apiPath + "CountriesApi.java", "import org.openapitools.cache.ResponseCache;");
+        // streamed responses are not cached
+        assertFileNotContainsRegex(apiPath + "CountriesApi.java", "@ResponseCache\\([^)]*\\)[^;]{0,200}Flux<[^>]*Country> exportCountries\\(");
+        assertFileContainsRegex(apiPath + "CountriesApi.java", "Flux<[^>]*Country> exportCountries\\(");
+        assertFileContainsRegex(apiPath + "CountriesApi.java", "@ResponseCache\\(ttl = 60\\)\\s+Mono<List<[^>]*Country>> listCountries\\(");
+        assertFileContainsRegex(apiPath + "CountriesApi.java", "@ResponseCache\\(ttl = 300\\)\\s+Mono<[^>]*Country> getCountry\\(");
+        assertFileContainsRegex(apiPath + "CountriesApi.java", "@Produces\\(\"application/json\"\\)\\s+Mono<Void> createCountry\\(");
+        assertFileContainsRegex(apiPath + "CountriesApi.java", "@Consumes\\(\"application/json\"\\)\\s+Mono<Map<String, [^>]*BigDecimal>> getRates\\(");
+    }
+
+    @Test
+    void testResponseCacheDisabled() {
+        var codegen = new JavaMicronautClientCodegen();
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/cacheable.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+
+        assertFileNotExists(outputPath + "src/main/java/org/openapitools/cache/ResponseCacheFilter.java");
+        assertFileNotContains(outputPath + "src/main/java/org/openapitools/api/CountriesApi.java", "ResponseCache");
+    }
+
+    @Test
+    void testPrimitivePropertyTypes() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.setPrimitivePropertyTypes(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/primitive-types.yaml", CodegenConstants.MODELS);
+        String modelPath = outputPath + "src/main/java/org/openapitools/model/";
+
+        assertFileContains(modelPath + "Stats.java",
+            "private int count;",
+            "private long total;",
+            "private double average;",
+            "private boolean active;",
+            "private String name;",
+            "private Long limit;",
+            "public Stats(int count, long total, double average, boolean active, String name, Integer previousCount)",
+            "public int getCount()",
+            "Integer.compare(count, stats.count) == 0",
+            "Double.compare(average, stats.average) == 0",
+            "Objects.equals(previousCount, stats.previousCount)",
+            "result = 31 * result + Long.hashCode(total);",
+            "result = 31 * result + Objects.hashCode(limit);");
+        assertFileNotContains(modelPath + "Stats.java", "Objects.hash(");
+    }
+
+    @Test
+    void testBoxedPropertyTypesByDefault() {
+        var codegen = new JavaMicronautClientCodegen();
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/primitive-types.yaml", CodegenConstants.MODELS);
+        String modelPath = outputPath + "src/main/java/org/openapitools/model/";
+
+        assertFileContains(modelPath + "Stats.java",
+            "private Integer count;",
+            "private Boolean active;",
+            "result = 31 * result + Objects.hashCode(count);");
+    }
 }
@@ -380,4 +380,156 @@ class JavaMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileExists(modelPath + "GetTokenRequestClientId.java");
         assertFileExists(modelPath + "ArtistsArtistIdDirectAlbumsGetSortByParameter.java");
     }
+
+    @Test
+    void testExecuteOn() {
+
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.java", "import io.micronaut.scheduling.annotation.ExecuteOn");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@ExecuteOn\\(TaskExecutors.VIRTUAL\\)[^;]{0,100}getBook");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@ExecuteOn\\(\"exportExecutor\"\\)[^;]{0,100}exportBooks");
+        assertFileNotContainsRegex(apiPath + "BooksApi.java", "@ExecuteOn[^@]{0,100}countBooks");
+        assertFileContainsRegex(apiPath + "ReportsApi.java", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport\\(");
+        assertFileContainsRegex(apiPath + "ReportsApi.java", "@ExecuteOn\\(TaskExecutors.BLOCKING\\)[^;]{0,100}getLatestReport");
+    }
+
+    @Test
+    void testExecuteOnApiExtension() {
+
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on-api.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@ExecuteOn\\(TaskExecutors.IO\\)[^;]{0,100}getBook");
+        assertFileContainsRegex(apiPath + "ReportsApi.java", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport");
+        assertFileNotContains(apiPath + "BooksApi.java", "TaskExecutors.VIRTUAL");
+    }
+
+    @Test
+    void testExecuteOnNotUsedForReactive() {
+
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "blocking");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileNotContains(apiPath + "BooksApi.java", "TaskExecutors.BLOCKING");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@ExecuteOn\\(\"exportExecutor\"\\)[^;]{0,100}exportBooks");
+        assertFileContainsRegex(apiPath + "ReportsApi.java", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport\\(");
+    }
+
+    @Test
+    void testStreamArrays() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/stream.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        // streamed responses are not wrapped in HttpResponse
+        assertFileContainsRegex(apiPath + "BooksApi.java", "@Produces\\(\"application/x-json-stream\"\\)[^;]{0,200}Flux<[^>]*Book> exportBooks\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "Mono<HttpResponse<List<[^>]*Book>>> listBooks\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "Mono<HttpResponse<List<[^>]*String>>> getTitles\\(");
+    }
+
+    @Test
+    void testNonReactiveStreamArraysImplementation() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setReactive(false);
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_STREAM_ARRAYS, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/stream.yaml", CodegenConstants.APIS,
+            CodegenConstants.MODELS, CodegenConstants.API_TESTS);
+        String controllerPath = outputPath + "src/main/java/org/openapitools/controller/";
+
+        assertFileContainsRegex(controllerPath + "BooksController.java", "Flux<[^>]*Book> exportBooks\\(\\) \\{[^}]*return Flux.empty\\(\\);");
+        assertFileContainsRegex(controllerPath + "BooksController.java", "Flux<[^>]*Book> listBooks\\(\\) \\{[^}]*return Flux.empty\\(\\);");
+    }
+
+    @Test
+    void testNonReactiveStreamArraysImplementationFromExamples() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setReactive(false);
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_STREAM_ARRAYS, "true");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_GENERATE_CONTROLLER_FROM_EXAMPLES, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/stream.yaml", CodegenConstants.APIS,
+            CodegenConstants.MODELS, CodegenConstants.API_TESTS);
+        String controllerPath = outputPath + "src/main/java/org/openapitools/controller/";
+        String apiTestPath = outputPath + "src/test/java/org/openapitools/api/";
+
+        assertFileContains(controllerPath + "BooksController.java",
+            "return Flux.fromIterable(List.of());",
+            "return List.of(\"example\");");
+        assertFileNotContains(controllerPath + "BooksController.java", "Flux.from(", "Mono.fromCallable");
+        assertFileContains(apiTestPath + "BooksApiTest.java",
+            "List<?> result = controller.exportBooks().collectList().block();");
+    }
+
+    @Test
+    void testETagOperations() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setGenerateETagOperations(true);
+        codegen.setReactive(false);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/etag.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileExists(outputPath + "src/main/java/org/openapitools/etag/ETags.java");
+        assertFileContains(apiPath + "BooksApi.java",
+            "@Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatchHeader",
+            "return ETags.ifNoneMatch(ifNoneMatchHeader, getBookETag(id), () -> HttpResponse.ok(getBook(id)));",
+            "String getBookETag(Long id);");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "default HttpResponse<[^>]*Book> getBookWithETag\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "[^>]*Book getBook\\(Long id\\);");
+        assertFileNotContains(apiPath + "BooksApi.java", "updateBookWithETag", "listBooksWithETag");
+    }
+
+    @Test
+    void testReactiveETagOperations() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setGenerateETagOperations(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/etag.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.java",
+            "return ETags.ifNoneMatchReactive(ifNoneMatchHeader, () -> getBookETag(id), () -> getBook(id).map(HttpResponse::ok));");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "default Mono<HttpResponse<[^>]*Book>> getBookWithETag\\(");
+        assertFileContainsRegex(apiPath + "BooksApi.java", "Mono<[^>]*Book> getBook\\(Long id\\);");
+    }
+
+    @Test
+    void testETagOperationsDisabled() {
+        var codegen = new JavaMicronautServerCodegen();
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/etag.yaml", CodegenConstants.APIS, CodegenConstants.SUPPORTING_FILES);
+
+        assertFileNotExists(outputPath + "src/main/java/org/openapitools/etag/ETags.java");
+        assertFileNotContains(outputPath + "src/main/java/org/openapitools/api/BooksApi.java", "ETag");
+    }
+
+    @Test
+    void testStreamingFileDownload() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setGenerateStreamingFileDownload(true);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/file-download.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContainsRegex(apiPath + "FilesApi.java", "@Produces\\(\"application/octet-stream\"\\)[^;]{0,200}Flux<byte\\[\\]> downloadFile\\(");
+        // streaming is disabled for operation by x-stream extension
+        assertFileContainsRegex(apiPath + "FilesApi.java", "Mono<[^>]*FileCustomizableResponseType> downloadAttachment\\(");
+    }
+
+    @Test
+    void testFileDownloadNotStreamedByDefault() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.setReactive(false);
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/file-download.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+
+        assertFileContainsRegex(apiPath + "FilesApi.java", "FileCustomizableResponseType downloadFile\\(");
+        assertFileContainsRegex(apiPath + "FilesApi.java", "FileCustomizableResponseType downloadAttachment\\(");
+        assertFileNotContains(apiPath + "FilesApi.java", "Flux<byte[]>");
+    }
 }
@@ -243,6 +243,19 @@ class KotlinMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(outputPath + "/src/main/kotlin/org/openapitools/auth/AuthorizationFilter.kt", "@Filter(Filter.MATCH_ALL_PATTERN)");
     }
 
+    @Test
+    void testAuthorizationFilterTokenCache() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_CONFIGURE_AUTH, "true");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.SUPPORTING_FILES, CodegenConstants.APIS);
+        String filterPath = outputPath + "/src/main/kotlin/org/openapitools/auth/AuthorizationFilter.kt";
+
+        assertFileContains(filterPath, "ConcurrentHashMap<String, OauthAuthorizer>()", "private val token = AtomicReference<CachedToken?>()", "tokenRequest.compareAndSet(null, request)");
+        assertFileContains(filterPath, ".thenMany(Flux.defer { Flux.from(chain.proceed(request)) })", "authorizer.evict(accessToken)",
+            "if (expiresIn == null) DEFAULT_TOKEN_LIFETIME_MILLIS else expiresIn * 1000L");
+        assertFileNotContains(filterPath, "switchMap", "Long.MAX_VALUE");
+    }
+
     @Test
     void testAuthorizationFilterPattern() {
         var codegen = new KotlinMicronautClientCodegen();
@@ -431,4 +444,63 @@ class KotlinMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(modelPath + "Book.kt", "const val JSON_PROPERTY_TITLE = \"tItle\"",
             "var title: String,");
     }
+
+    @Test
+    void testCoroutines() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_COROUTINES, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/coroutines.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.kt",
+            "suspend fun getBook(",
+            "suspend fun deleteBook(",
+            "suspend fun listBooks(",
+            "): List<Book>");
+        assertFileNotContains(apiPath + "BooksApi.kt", "Mono", "Flow");
+    }
+
+    @Test
+    void testCoroutinesFlowForArrays() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_COROUTINES, "true");
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_FLUX_FOR_ARRAYS, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/coroutines.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.kt",
+            "import kotlinx.coroutines.flow.Flow",
+            "suspend fun getBook(",
+            "): Flow<Book>");
+        assertFileNotContains(apiPath + "BooksApi.kt", "suspend fun listBooks(", "Flux");
+    }
+
+    @Test
+    void testStreamArrays() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_STREAM_ARRAYS, "true");
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_COROUTINES, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/stream.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.kt",
+            "fun listBooks(): Flow<Book>",
+            "@Consumes(\"application/x-json-stream\")",
+            "fun exportBooks(): Flow<Book>",
+            "suspend fun getTitles(): List<String>",
+            "suspend fun getBook(");
+    }
+
+    @Test
+    void testReproducibleGeneration() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true");
+        String firstOutputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.APIS, CodegenConstants.MODELS);
+
+        codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, "true");
+        String secondOutputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.APIS, CodegenConstants.MODELS);
+
+        assertSameFiles(firstOutputPath, secondOutputPath);
+    }
 }
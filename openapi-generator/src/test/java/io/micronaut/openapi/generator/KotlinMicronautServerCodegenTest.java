@@ -483,4 +483,81 @@ class KotlinMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileExists(modelPath + "GetTokenRequestClientId.kt");
         assertFileExists(modelPath + "ArtistsArtistIdDirectAlbumsGetSortByParameter.kt");
     }
+
+    @Test
+    void testExecuteOn() {
+
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.kt", "import io.micronaut.scheduling.annotation.ExecuteOn");
+        assertFileContainsRegex(apiPath + "BooksApi.kt", "@ExecuteOn\\(TaskExecutors.VIRTUAL\\)[^;]{0,100}getBook");
+        assertFileContainsRegex(apiPath + "BooksApi.kt", "@ExecuteOn\\(\"exportExecutor\"\\)[^;]{0,100}exportBooks");
+        assertFileNotContainsRegex(apiPath + "BooksApi.kt", "@ExecuteOn[^@]{0,100}countBooks");
+        assertFileContainsRegex(apiPath + "ReportsApi.kt", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport\\(");
+        assertFileContainsRegex(apiPath + "ReportsApi.kt", "@ExecuteOn\\(TaskExecutors.BLOCKING\\)[^;]{0,100}getLatestReport");
+    }
+
+    @Test
+    void testExecuteOnApiExtension() {
+
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on-api.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContainsRegex(apiPath + "BooksApi.kt", "@ExecuteOn\\(TaskExecutors.IO\\)[^;]{0,100}getBook");
+        assertFileContainsRegex(apiPath + "ReportsApi.kt", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport");
+        assertFileNotContains(apiPath + "BooksApi.kt", "TaskExecutors.VIRTUAL");
+    }
+
+    @Test
+    void testExecuteOnNotUsedForReactive() {
+
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "blocking");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/execute-on.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileNotContains(apiPath + "BooksApi.kt", "TaskExecutors.BLOCKING");
+        assertFileContainsRegex(apiPath + "BooksApi.kt", "@ExecuteOn\\(\"exportExecutor\"\\)[^;]{0,100}exportBooks");
+        assertFileContainsRegex(apiPath + "ReportsApi.kt", "@ExecuteOn\\(\"reportExecutor\"\\)[^;]{0,100}getReport\\(");
+    }
+
+    @Test
+    void testCoroutines() {
+
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_COROUTINES, "true");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_FLUX_FOR_ARRAYS, "true");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_GENERATE_IMPLEMENTATION_FILES, "true");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/coroutines.yaml", CodegenConstants.APIS, CodegenConstants.API_TESTS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        String controllerPath = outputPath + "src/main/kotlin/org/openapitools/controller/";
+
+        assertFileContains(apiPath + "BooksApi.kt",
+            "suspend fun getBook(",
+            "suspend fun deleteBook(",
+            "): Flow<Book>");
+        assertFileNotContains(apiPath + "BooksApi.kt", "suspend fun listBooks(", "Mono");
+        assertFileContains(controllerPath + "BooksController.kt",
+            "override suspend fun getBook(",
+            "override fun listBooks(): Flow<Book> {");
+    }
+
+    @Test
+    void testCoroutinesNotUsedWithExecuteOn() {
+
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.setCoroutines(true);
+        codegen.setExecuteOn("blocking");
+        String outputPath = generateFiles(codegen, "src/test/resources/3_0/micronaut/coroutines.yaml", CodegenConstants.APIS, CodegenConstants.MODELS);
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+
+        assertFileContains(apiPath + "BooksApi.kt", "suspend fun getBook(");
+        assertFileNotContains(apiPath + "BooksApi.kt", "TaskExecutors.BLOCKING");
+    }
 }
@@ -1,12 +1,22 @@
 package io.micronaut.openapi.generator;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import static io.micronaut.openapi.generator.AbstractMicronautCodegenTest.assertSameFiles;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MicronautCodeGeneratorEntryPointTest {
 
@@ -21,6 +31,152 @@ class MicronautCodeGeneratorEntryPointTest {
         assertEquals("Hello", generator.value);
     }
 
+    @Test
+    @DisplayName("Parallel generation gives the same files as sequential generation")
+    void testParallelGeneration() throws IOException {
+        var sequentialOutput = generate(1);
+        var parallelOutput = generate(4);
+
+        assertSameFiles(sequentialOutput.getAbsolutePath(), parallelOutput.getAbsolutePath());
+    }
+
+    @Test
+    @DisplayName("Parallel generation doesn't write or list ignored files")
+    void testParallelGenerationIgnoredFiles() throws IOException {
+        var output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        Files.writeString(output.toPath().resolve(".openapi-generator-ignore"), "**/model/Pet.java\n");
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient()
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.APIS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.SUPPORTING_FILES)
+            .withParallelism(4)
+            .withIncremental(true)
+            .build()
+            .generate();
+
+        var modelPath = output.toPath().resolve("src/main/java/org/openapitools/model");
+        assertFalse(Files.exists(modelPath.resolve("Pet.java")));
+        assertTrue(Files.exists(modelPath.resolve("Category.java")));
+
+        var filesMetadata = Files.readString(output.toPath().resolve(".openapi-generator/FILES"));
+        assertTrue(filesMetadata.contains("src/main/java/org/openapitools/model/Category.java"));
+        assertFalse(filesMetadata.contains("model/Pet.java"));
+        var manifest = Files.readString(output.toPath().resolve(GeneratedFilesManifest.MANIFEST_PATH));
+        assertFalse(manifest.contains("model/Pet.java"));
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        var builder = MicronautCodeGeneratorEntryPoint.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withParallelism(0));
+    }
+
+    @Test
+    @DisplayName("Incremental generation keeps unchanged files and deletes removed files")
+    void testIncrementalGeneration() throws IOException {
+        var output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        generateIncremental("src/test/resources/3_0/micronaut/stream.yaml", output);
+        var bookPath = output.toPath().resolve("src/main/java/org/openapitools/model/Book.java");
+        var apiPath = output.toPath().resolve("src/main/java/org/openapitools/api/BooksApi.java");
+        var oldTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(bookPath, oldTime);
+
+        generateIncremental("src/test/resources/3_0/micronaut/stream.yaml", output);
+        assertEquals(oldTime, Files.getLastModifiedTime(bookPath));
+
+        generateIncremental("src/test/resources/3_0/micronaut/execute-on.yaml", output);
+        assertFalse(Files.exists(bookPath));
+        AbstractMicronautCodegenTest.assertFileContains(apiPath.toString(), "getBook");
+    }
+
+    @Test
+    @DisplayName("Generation from cached definition gives the same files as generation from parsed definition")
+    void testDefinitionCache() throws IOException {
+        ParsedDefinitionCache.clear();
+        var parsedOutput = generate(1, false);
+        var firstCachedOutput = generate(1, true);
+        var secondCachedOutput = generate(1, true);
+
+        assertSameFiles(parsedOutput.getAbsolutePath(), firstCachedOutput.getAbsolutePath());
+        assertSameFiles(parsedOutput.getAbsolutePath(), secondCachedOutput.getAbsolutePath());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "src/test/resources/3_0/spec.yaml",
+        "src/test/resources/3_0/discriminatorconstructorbug.yml",
+        "src/test/resources/3_0/issue_11772.yml",
+        "src/test/resources/3_0/controller-enum.yml",
+    })
+    @DisplayName("Server generated from examples of cached definition is the same as server generated from parsed definition")
+    void testDefinitionCacheWithExamples(String definitionPath) throws IOException {
+        ParsedDefinitionCache.clear();
+        var parsedOutput = generateServerFromExamples(definitionPath, false);
+        var firstCachedOutput = generateServerFromExamples(definitionPath, true);
+        var secondCachedOutput = generateServerFromExamples(definitionPath, true);
+
+        assertSameFiles(parsedOutput.getAbsolutePath(), firstCachedOutput.getAbsolutePath());
+        assertSameFiles(parsedOutput.getAbsolutePath(), secondCachedOutput.getAbsolutePath());
+    }
+
+    private static void generateIncremental(String definitionPath, File output) {
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient()
+            .withDefinitionFile(new File(definitionPath).toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.APIS)
+            .withIncremental(true)
+            .build()
+            .generate();
+    }
+
+    private static File generate(int parallelism) throws IOException {
+        return generate(parallelism, false);
+    }
+
+    private static File generate(int parallelism, boolean definitionCache) throws IOException {
+        var output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient()
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.APIS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.API_TESTS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.SUPPORTING_FILES)
+            .withParallelism(parallelism)
+            .withDefinitionCache(definitionCache)
+            .build()
+            .generate();
+        return output;
+    }
+
+    private static File generateServerFromExamples(String definitionPath, boolean definitionCache) throws IOException {
+        var output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaServer(options -> options.withGenerateImplementationFiles(true)
+                .withGenerateControllerFromExamples(true))
+            .withDefinitionFile(new File(definitionPath).toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.APIS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.API_TESTS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.MODEL_DOCS,
+                MicronautCodeGeneratorEntryPoint.OutputKind.SUPPORTING_FILES)
+            .withDefinitionCache(definitionCache)
+            .build()
+            .generate();
+        return output;
+    }
+
     private static class TestGenerator extends AbstractMicronautJavaCodegen<TestBuilder> {
 
         private String value;
@@ -93,7 +93,23 @@ abstract class AbstractViewConfig implements Toggleable {
         return templatePath;
     }
 
-    public abstract String render(String template, @Nullable VisitorContext context);
+    /**
+     * Collects values of the template placeholders.
+     *
+     * @param placeholders The placeholder values by placeholder name: strings, which are written as is, or nested templates.
+     * @param context Visitor context.
+     */
+    public abstract void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context);
+
+    /**
+     * Overrides placeholder values for the page, which shows only one group.
+     *
+     * @param placeholders The placeholder values of the common page.
+     * @param url The group url.
+     */
+    protected void collectGroupPlaceholders(Map<String, Object> placeholders, OpenApiUrl url) {
+        placeholders.put("specURL", url.url());
+    }
 
     /**
      * Adds an option.
@@ -205,7 +221,7 @@ abstract class AbstractViewConfig implements Toggleable {
 
                 cfg.getFinalUrlPrefix(OpenApiViewConfig.RendererType.SWAGGER_UI, context);
                 String groupUrl = cfg.urlPrefix + (!cfg.urlPrefix.endsWith("/") ? "/swagger/" : "swagger/") + openApiInfo.getFilename();
-                urls.add(new OpenApiUrl(groupUrl, groupName));
+                urls.add(new OpenApiUrl(groupUrl, groupName, getGroupKey(openApiInfo), openApiInfo));
             }
             cfg.urls = urls;
             if (primaryName != null) {
@@ -247,6 +263,18 @@ abstract class AbstractViewConfig implements Toggleable {
         return cfg;
     }
 
+    private static String getGroupKey(OpenApiInfo openApiInfo) {
+        String key;
+        if (StringUtils.isEmpty(openApiInfo.getGroupName())) {
+            key = openApiInfo.getVersion();
+        } else if (StringUtils.isEmpty(openApiInfo.getVersion())) {
+            key = openApiInfo.getGroupName();
+        } else {
+            key = openApiInfo.getGroupName() + '-' + openApiInfo.getVersion();
+        }
+        return key.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
     public List<OpenApiUrl> getUrls() {
         return urls;
     }
@@ -324,6 +352,14 @@ abstract class AbstractViewConfig implements Toggleable {
         }
     }
 
-    record OpenApiUrl(String url, String name) {
+    /**
+     * Group specification url.
+     *
+     * @param url The specification url.
+     * @param name The group display name.
+     * @param key The group key, used as directory name for group pages.
+     * @param openApiInfo The group OpenAPI info.
+     */
+    record OpenApiUrl(String url, String name, String key, OpenApiInfo openApiInfo) {
     }
 }
@@ -128,10 +128,10 @@ final class OpenApiExplorerConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.OPENAPI_EXPLORER, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "openapi-explorer.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.OPENAPI_EXPLORER, context) : jsUrl, "");
-        return OpenApiViewConfig.replacePlaceHolder(template, "openapi-explorer.attributes", toHtmlAttributes(), "");
+    public void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.collectPlaceholders(placeholders, RendererType.OPENAPI_EXPLORER, context);
+        placeholders.put("openapi-explorer.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.OPENAPI_EXPLORER, context) : jsUrl);
+        placeholders.put("openapi-explorer.attributes", toHtmlAttributes());
     }
 
     @Override
@@ -42,10 +42,13 @@ import io.micronaut.core.io.scan.DefaultClassPathResourceLoader;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.visitor.ContextUtils;
 import io.micronaut.openapi.visitor.Pair;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getProjectPath;
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
@@ -82,11 +85,17 @@ public final class OpenApiViewConfig {
     private static final String SWAGGER_UI = "swagger-ui";
     private static final String OPENAPI_EXPLORER = "openapi-explorer";
     private static final String TEMPLATE_OAUTH_2_REDIRECT_HTML = "oauth2-redirect.html";
+    private static final String TEMPLATE_GROUP_INDEX_HTML = "group-index.html";
+    private static final String GROUPS_HTML = "groups.html";
 
     private String mappingPath;
     private String title;
     private String specFile;
     private String serverContextPath = "";
+    private boolean groupPages;
+    private boolean groupIndex;
+    private int inlineSpecMaxSize;
+    private final Map<OpenApiInfo, String> inlineSpecs = new HashMap<>();
     private SwaggerUIConfig swaggerUIConfig;
     private RedocConfig redocConfig;
     private RapidocConfig rapidocConfig;
@@ -167,6 +176,16 @@ public final class OpenApiViewConfig {
             cfg.swaggerUIConfig.rapiPDFConfig = rapiPDFConfig;
         }
         cfg.mappingPath = openApiMap.getOrDefault("mapping.path", "swagger");
+        cfg.groupPages = "true".equals(openApiMap.getOrDefault("group-pages.enabled", Boolean.FALSE.toString()));
+        cfg.groupIndex = cfg.groupPages && "true".equals(openApiMap.getOrDefault("group-pages.index.enabled", Boolean.FALSE.toString()));
+        String inlineSpecMaxSize = openApiMap.get("inline-spec.max-size");
+        if (StringUtils.isNotEmpty(inlineSpecMaxSize)) {
+            try {
+                cfg.inlineSpecMaxSize = Integer.parseInt(inlineSpecMaxSize.strip());
+            } catch (NumberFormatException e) {
+                warn("Invalid inline-spec.max-size value: " + inlineSpecMaxSize, context);
+            }
+        }
         return cfg;
     }
 
@@ -247,11 +266,8 @@ public final class OpenApiViewConfig {
             Path file = resDir.resolve(themeFileName);
             if (context != null) {
                 info("Writing OpenAPI View Resources to destination: " + file, context);
-                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                if (classesOutputPath != null) {
-                    // add relative path for the file, so that the micronaut-graal visitor knows about it
-                    addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                }
+                // add the file, so that the micronaut-graal visitor knows about it
+                addGeneratedResource(file, context);
             }
         } catch (Exception e) {
             warn("Can't copy resource: " + themeFileName, context);
@@ -275,16 +291,13 @@ public final class OpenApiViewConfig {
             for (String resource : resources) {
                 try {
                     InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templateDir + SLASH + resource);
-                    Files.copy(is, Paths.get(outputDir.toString(), resource), StandardCopyOption.REPLACE_EXISTING);
-                    Path file = outputResDir.resolve(resource);
+                    Path file = outputDir.resolve(resource);
+                    Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
 
                     if (context != null) {
                         info("Writing OpenAPI View Resources to destination: " + file, context);
-                        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                        if (classesOutputPath != null) {
-                            // add relative path for the file, so that the micronaut-graal visitor knows about it
-                            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                        }
+                        // add the file, so that the micronaut-graal visitor knows about it
+                        addGeneratedResource(file, context);
                     }
                 } catch (Exception e) {
                     warn("Can't copy resource: " + resource, context);
@@ -294,19 +307,23 @@ public final class OpenApiViewConfig {
         }
     }
 
-    private String readTemplateFromClasspath(String templateName) throws IOException {
-        StringBuilder buf = new StringBuilder(1024);
+    private ViewTemplate readTemplateFromClasspath(String templateName) throws IOException {
+        String cacheKey = "classpath:" + templateName;
+        ViewTemplate template = ViewTemplate.getCached(cacheKey);
+        if (template != null) {
+            return template;
+        }
         ClassLoader classLoader = getClass().getClassLoader();
         try (InputStream in = classLoader.getResourceAsStream(templateName);
              BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
         ) {
-            return readFile(reader);
+            return ViewTemplate.cache(cacheKey, readFile(reader));
         } catch (Exception e) {
             throw new IOException("Fail to load " + templateName, e);
         }
     }
 
-    private String readTemplateFromCustomPath(String customPathStr, @Nullable VisitorContext context) throws IOException {
+    private ViewTemplate readTemplateFromCustomPath(String customPathStr, @Nullable VisitorContext context) throws IOException {
         String projectDir = StringUtils.EMPTY_STRING;
         Path projectPath = context != null ? getProjectPath(context) : null;
         if (projectPath != null) {
@@ -325,6 +342,10 @@ public final class OpenApiViewConfig {
         } else if (customPathStr.startsWith("file:")) {
             customPathStr = customPathStr.substring(5);
         } else if (customPathStr.startsWith("classpath:")) {
+            ViewTemplate template = ViewTemplate.getCached(customPathStr);
+            if (template != null) {
+                return template;
+            }
             ClassPathResourceLoader resourceLoader = new DefaultClassPathResourceLoader(getClass().getClassLoader());
             Optional<InputStream> inOpt = resourceLoader.getResourceAsStream(customPathStr);
             if (inOpt.isEmpty()) {
@@ -333,7 +354,7 @@ public final class OpenApiViewConfig {
             try (InputStream in = inOpt.get();
                  BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
             ) {
-                return readFile(reader);
+                return ViewTemplate.cache(customPathStr, readFile(reader));
             } catch (IOException e) {
                 throw new IOException("Fail to load " + customPathStr, e);
             }
@@ -343,8 +364,15 @@ public final class OpenApiViewConfig {
         if (!Files.isReadable(templatePath)) {
             throw new IOException("Can't read file " + customPathStr);
         }
+        // file templates can be changed between compilations, so the cached template is checked by last modified time
+        String cacheKey = "file:" + templatePath.toAbsolutePath().normalize();
+        long lastModified = Files.getLastModifiedTime(templatePath).toMillis();
+        ViewTemplate template = ViewTemplate.getCached(cacheKey, lastModified);
+        if (template != null) {
+            return template;
+        }
         try (BufferedReader reader = Files.newBufferedReader(templatePath)) {
-            return readFile(reader);
+            return ViewTemplate.cache(cacheKey, lastModified, readFile(reader));
         } catch (IOException e) {
             throw new IOException("Fail to load " + customPathStr, e);
         }
@@ -361,31 +389,112 @@ public final class OpenApiViewConfig {
 
     private void render(AbstractViewConfig cfg, Path outputDir, String templateName, @Nullable VisitorContext context) throws IOException {
 
-        String template;
+        ViewTemplate template;
         if (StringUtils.isEmpty(cfg.templatePath)) {
             template = readTemplateFromClasspath(templateName);
         } else {
             template = readTemplateFromCustomPath(cfg.templatePath, context);
         }
 
-        template = cfg.render(template, context);
-        template = replacePlaceHolder(template, "specURL", getSpecURL(cfg, context), "");
-        template = replacePlaceHolder(template, "title", title, "");
+        Map<String, Object> placeholders = new HashMap<>();
+        cfg.collectPlaceholders(placeholders, context);
+        placeholders.put("specURL", getSpecURL(cfg, context));
+        placeholders.put("title", title);
+        placeholders.put("inlineSpec", getInlineSpec(cfg.specUrl == null && !Boolean.TRUE.equals(cfg.withUrls) ? getSingleOpenApiInfo() : null, context));
+        String fileName = templateName.substring(templateName.lastIndexOf(SLASH) + 1);
+        writeView(template, placeholders, outputDir, fileName, context);
+
+        if (groupPages && TEMPLATE_INDEX_HTML.equals(fileName) && Boolean.TRUE.equals(cfg.withUrls) && CollectionUtils.isNotEmpty(cfg.urls)) {
+            renderGroupPages(cfg, template, placeholders, outputDir, context);
+        }
+    }
+
+    /**
+     * Renders one page per group. Placeholder values, common for all groups, are calculated only once
+     * and only group specific values are replaced for every page.
+     */
+    private void renderGroupPages(AbstractViewConfig cfg, ViewTemplate template, Map<String, Object> commonPlaceholders,
+                                  Path outputDir, @Nullable VisitorContext context) throws IOException {
+        var groupLinks = new StringBuilder();
+        for (AbstractViewConfig.OpenApiUrl url : cfg.urls) {
+            Map<String, Object> placeholders = new HashMap<>(commonPlaceholders);
+            cfg.collectGroupPlaceholders(placeholders, url);
+            placeholders.put("inlineSpec", getInlineSpec(url.openApiInfo(), context));
+            placeholders.put("title", StringUtils.isEmpty(title) ? url.name() : title + " - " + url.name());
+            writeView(template, placeholders, outputDir.resolve(url.key()), TEMPLATE_INDEX_HTML, context);
+            groupLinks.append("<li><a href='").append(url.key()).append(SLASH).append(TEMPLATE_INDEX_HTML).append("'>")
+                .append(escapeHtml(url.name())).append("</a></li>");
+        }
+        if (groupIndex) {
+            var placeholders = new HashMap<String, Object>();
+            placeholders.put("title", title);
+            placeholders.put("groups", groupLinks.toString());
+            writeView(readTemplateFromClasspath(TEMPLATES + SLASH + TEMPLATE_GROUP_INDEX_HTML), placeholders, outputDir, GROUPS_HTML, context);
+        }
+    }
+
+    @Nullable
+    private OpenApiInfo getSingleOpenApiInfo() {
+        if (CollectionUtils.isEmpty(openApiInfos) || openApiInfos.size() > 1) {
+            return null;
+        }
+        return openApiInfos.values().iterator().next();
+    }
+
+    /**
+     * Returns specification as JavaScript object literal to embed it to the view page,
+     * if inline specifications enabled and the specification is smaller than max size.
+     *
+     * @param openApiInfo OpenAPI info object.
+     * @param context Visitor context.
+     *
+     * @return JSON specification or "null".
+     */
+    private String getInlineSpec(@Nullable OpenApiInfo openApiInfo, @Nullable VisitorContext context) {
+        if (inlineSpecMaxSize <= 0 || openApiInfo == null || openApiInfo.getOpenApi() == null) {
+            return "null";
+        }
+        String spec = inlineSpecs.get(openApiInfo);
+        if (spec == null) {
+            try {
+                spec = OpenApiUtils.getJsonMapper().writeValueAsString(openApiInfo.getOpenApi());
+            } catch (JsonProcessingException e) {
+                warn("Can't serialize OpenAPI specification to inline it to view: " + e.getMessage(), context);
+                spec = "null";
+            }
+            if (spec.length() > inlineSpecMaxSize) {
+                spec = "null";
+            } else {
+                // '<' is allowed only inside JSON strings, so it's safe to escape it to avoid closing script tag.
+                spec = spec.replace("<", "\\u003c")
+                    .replace("\u2028", "\\u2028")
+                    .replace("\u2029", "\\u2029");
+            }
+            inlineSpecs.put(openApiInfo, spec);
+        }
+        return spec;
+    }
+
+    private static String escapeHtml(String value) {
+        return value.replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("'", "&#39;")
+            .replace("\"", "&quot;");
+    }
+
+    private void writeView(ViewTemplate template, Map<String, Object> placeholders, Path outputDir, String fileName, @Nullable VisitorContext context) throws IOException {
         if (!Files.exists(outputDir)) {
             Files.createDirectories(outputDir);
         }
-        String fileName = templateName.substring(templateName.lastIndexOf(SLASH) + 1);
         Path file = outputDir.resolve(fileName);
         info("Writing OpenAPI View to destination: " + file, context);
-        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-        if (classesOutputPath != null) {
-            // add relative path for the file, so that the micronaut-graal visitor knows about it
-            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-        }
+        // add the file, so that the micronaut-graal visitor knows about it
+        addGeneratedResource(file, context);
         try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
             StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
         ) {
-            writer.write(template);
+            template.render(writer, placeholders);
         }
     }
 
@@ -464,24 +573,6 @@ public final class OpenApiViewConfig {
         this.specFile = specFile;
     }
 
-    /**
-     * Replaces placeholders in the template.
-     *
-     * @param template A template.
-     * @param placeHolder The placeholder to replace.
-     * @param value The value that will replace the placeholder.
-     * @param valuePrefix A prefix.
-     *
-     * @return The updated template.
-     */
-    static String replacePlaceHolder(String template, String placeHolder, String value, String valuePrefix) {
-        if (StringUtils.isEmpty(value)) {
-            return template.replace("{{" + placeHolder + "}}", "");
-        } else {
-            return template.replace("{{" + placeHolder + "}}", valuePrefix + value);
-        }
-    }
-
     public SwaggerUIConfig getSwaggerUIConfig() {
         return swaggerUIConfig;
     }
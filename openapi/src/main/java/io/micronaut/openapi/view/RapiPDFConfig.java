@@ -41,9 +41,9 @@ final class RapiPDFConfig extends AbstractViewConfig {
         DEFAULT_RAPIPDF_JS_PATH + "rapipdf-min.js"
     );
 
-    private static final String LINK = "<script src='{{rapipdf.js.url.prefix}}rapipdf-min.js'></script>";
-    private static final String TAG = "<rapi-pdf id='rapi-pdf' {{rapipdf.attributes}}></rapi-pdf>";
-    private static final String SPEC = "document.getElementById('rapi-pdf').setAttribute('spec-url', contextPath + '{{specURL}}');";
+    private static final ViewTemplate LINK = ViewTemplate.compile("<script src='{{rapipdf.js.url.prefix}}rapipdf-min.js'></script>");
+    private static final ViewTemplate TAG = ViewTemplate.compile("<rapi-pdf id='rapi-pdf' {{rapipdf.attributes}}></rapi-pdf>");
+    private static final ViewTemplate SPEC = ViewTemplate.compile("document.getElementById('rapi-pdf').setAttribute('spec-url', contextPath + '{{specURL}}');");
     private static final Map<String, Object> DEFAULT_OPTIONS = new HashMap<>(6);
 
     private static final String DEFAULT_RAPIDOC_STYLE = "width: 122px;height: 26px;font-size: 15px;padding-bottom: 0px;padding-top: 5px;padding-left: 12px;margin-left: 12px";
@@ -119,15 +119,13 @@ final class RapiPDFConfig extends AbstractViewConfig {
     }
 
     /**
-     * Substitute placeholders in the template.
+     * Collects values of the rapipdf placeholders.
      *
-     * @param template A template.
+     * @param placeholders The placeholder values by placeholder name.
      * @param rendererType The renderer type.
      * @param context Visitor context.
-     *
-     * @return The template with placeholders replaced.
      */
-    String render(String template, RendererType rendererType, VisitorContext context) {
+    void collectPlaceholders(Map<String, Object> placeholders, RendererType rendererType, VisitorContext context) {
         if (isEnabled()) {
             String style = (String) options.get("style");
             boolean styleUpdated = false;
@@ -142,18 +140,19 @@ final class RapiPDFConfig extends AbstractViewConfig {
                     options.put("style", DEFAULT_RAPIDOC_STYLE);
                 }
             }
-            String script = OpenApiViewConfig.replacePlaceHolder(LINK, "rapipdf.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(rendererType, context) : jsUrl, "");
-            String rapipdfTag = OpenApiViewConfig.replacePlaceHolder(TAG, "rapipdf.attributes", toHtmlAttributes(), "");
+            placeholders.put("rapipdf.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(rendererType, context) : jsUrl);
+            // attributes can refer to other placeholders, the default pdf title is {{title}}
+            placeholders.put("rapipdf.attributes", ViewTemplate.compile(toHtmlAttributes()));
             if (styleUpdated) {
                 options.remove("style");
             }
-            template = OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.script", script, "");
-            template = OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.specurl", SPEC, "");
-            return OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.tag", rapipdfTag, "");
+            placeholders.put("rapipdf.script", LINK);
+            placeholders.put("rapipdf.specurl", SPEC);
+            placeholders.put("rapipdf.tag", TAG);
         } else {
-            template = OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.script", "", "");
-            template = OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.specurl", "", "");
-            return OpenApiViewConfig.replacePlaceHolder(template, "rapipdf.tag", "", "");
+            placeholders.put("rapipdf.script", "");
+            placeholders.put("rapipdf.specurl", "");
+            placeholders.put("rapipdf.tag", "");
         }
     }
 
@@ -168,7 +167,7 @@ final class RapiPDFConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
+    public void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context) {
         throw new IllegalStateException("RapiPDF doesn't support render");
     }
 }
@@ -400,10 +400,10 @@ final class RapidocConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.RAPIDOC, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "rapidoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.RAPIDOC, context) : jsUrl, "");
-        return OpenApiViewConfig.replacePlaceHolder(template, "rapidoc.attributes", toHtmlAttributes(), "");
+    public void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.collectPlaceholders(placeholders, RendererType.RAPIDOC, context);
+        placeholders.put("rapidoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.RAPIDOC, context) : jsUrl);
+        placeholders.put("rapidoc.attributes", toHtmlAttributes());
     }
 
     @Override
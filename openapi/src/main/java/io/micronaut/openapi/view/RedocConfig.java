@@ -149,10 +149,10 @@ final class RedocConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.REDOC, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "redoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.REDOC, context) : jsUrl, "");
-        return OpenApiViewConfig.replacePlaceHolder(template, "redoc.attributes", toHtmlAttributes(), "");
+    public void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.collectPlaceholders(placeholders, RendererType.REDOC, context);
+        placeholders.put("redoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.REDOC, context) : jsUrl);
+        placeholders.put("redoc.attributes", toHtmlAttributes());
     }
 
     @Override
@@ -258,19 +258,25 @@ final class SwaggerUIConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
+    public void collectPlaceholders(Map<String, Object> placeholders, @Nullable VisitorContext context) {
 
         String finalUrlPrefix = getFinalUrlPrefix(RendererType.SWAGGER_UI, context);
 
-        template = rapiPDFConfig.render(template, RendererType.SWAGGER_UI, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, PREFIX_SWAGGER_UI + ".js.url.prefix", isDefaultJsUrl ? finalUrlPrefix : jsUrl, StringUtils.EMPTY_STRING);
-        template = OpenApiViewConfig.replacePlaceHolder(template, PREFIX_SWAGGER_UI + ".attributes", toOptions(), StringUtils.EMPTY_STRING);
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + ".theme}}", theme == null || Theme.CLASSIC == theme ? StringUtils.EMPTY_STRING :
+        rapiPDFConfig.collectPlaceholders(placeholders, RendererType.SWAGGER_UI, context);
+        placeholders.put(PREFIX_SWAGGER_UI + ".js.url.prefix", isDefaultJsUrl ? finalUrlPrefix : jsUrl);
+        placeholders.put(PREFIX_SWAGGER_UI + ".attributes", toOptions());
+        placeholders.put(PREFIX_SWAGGER_UI + ".theme", theme == null || Theme.CLASSIC == theme ? StringUtils.EMPTY_STRING :
             "<link rel='stylesheet' type='text/css' href='" + (isDefaultThemeUrl ? finalUrlPrefix + theme.getCss() + ".css" : themeUrl) + "' />");
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_OAUTH2 + "}}", hasOauth2Option(options) ? toOauth2Options() : StringUtils.EMPTY_STRING);
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_PRIMARY_NAME + "}}", StringUtils.isNotEmpty(primaryName) ? getPrimaryName(context) : StringUtils.EMPTY_STRING);
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_URLS + "}}", getUrlStr(context));
-        return template;
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_OAUTH2, hasOauth2Option(options) ? toOauth2Options() : StringUtils.EMPTY_STRING);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_PRIMARY_NAME, StringUtils.isNotEmpty(primaryName) ? getPrimaryName(context) : StringUtils.EMPTY_STRING);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_URLS, getUrlStr(context));
+    }
+
+    @Override
+    protected void collectGroupPlaceholders(Map<String, Object> placeholders, OpenApiUrl url) {
+        super.collectGroupPlaceholders(placeholders, url);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_PRIMARY_NAME, StringUtils.EMPTY_STRING);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_URLS, StringUtils.EMPTY_STRING);
     }
 
     @NonNull
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.view;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Precompiled view template. Template is parsed once to literal and placeholder segments,
+ * so rendering is a single pass over segments without rescanning the template text.
+ * <p>
+ * Placeholders have format {@code {{name}}}. Placeholders without value stay in the result as is.
+ * Values are written as is, even if they contain placeholders. Values, which are templates themselves,
+ * are passed as precompiled {@link ViewTemplate} and are rendered with the same values.
+ *
+ * @since 6.6.0
+ */
+@Internal
+final class ViewTemplate {
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String PLACEHOLDER_END = "}}";
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Compiled templates by template location. Entry of the location is replaced,
+     * when the template is changed, so the cache keeps only the latest version of every template.
+     */
+    private static final Map<String, CacheEntry> CACHE = new ConcurrentHashMap<>();
+
+    private final Segment[] segments;
+    private final String source;
+
+    private ViewTemplate(Segment[] segments, String source) {
+        this.segments = segments;
+        this.source = source;
+    }
+
+    /**
+     * Parse template text.
+     *
+     * @param source template text
+     *
+     * @return compiled template
+     */
+    static ViewTemplate compile(@NonNull String source) {
+        List<Segment> segments = new ArrayList<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int start = source.indexOf(PLACEHOLDER_START, pos);
+            if (start < 0) {
+                break;
+            }
+            int end = source.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                break;
+            }
+            if (start > pos) {
+                segments.add(new Segment(source.substring(pos, start), null));
+            }
+            end += PLACEHOLDER_END.length();
+            segments.add(new Segment(source.substring(start, end), source.substring(start + PLACEHOLDER_START.length(), end - PLACEHOLDER_END.length())));
+            pos = end;
+        }
+        if (pos < source.length()) {
+            segments.add(new Segment(source.substring(pos), null));
+        }
+        return new ViewTemplate(segments.toArray(new Segment[0]), source);
+    }
+
+    /**
+     * Returns compiled template from cache.
+     *
+     * @param key template location key
+     *
+     * @return compiled template or null
+     */
+    @Nullable
+    static ViewTemplate getCached(String key) {
+        return getCached(key, 0);
+    }
+
+    /**
+     * Returns compiled template from cache, if it was compiled from the same version of template.
+     *
+     * @param key template location key
+     * @param lastModified last modified time of the template
+     *
+     * @return compiled template or null
+     */
+    @Nullable
+    static ViewTemplate getCached(String key, long lastModified) {
+        var entry = CACHE.get(key);
+        return entry != null && entry.lastModified == lastModified ? entry.template : null;
+    }
+
+    /**
+     * Compile template and put it to cache.
+     *
+     * @param key template location key
+     * @param source template text
+     *
+     * @return compiled template
+     */
+    static ViewTemplate cache(String key, String source) {
+        return cache(key, 0, source);
+    }
+
+    /**
+     * Compile template and put it to cache instead of the previous version of the template.
+     *
+     * @param key template location key
+     * @param lastModified last modified time of the template
+     * @param source template text
+     *
+     * @return compiled template
+     */
+    static ViewTemplate cache(String key, long lastModified, String source) {
+        var template = compile(source);
+        CACHE.put(key, new CacheEntry(lastModified, template));
+        return template;
+    }
+
+    /**
+     * Render template to writer.
+     *
+     * @param writer writer
+     * @param values placeholder values: strings or nested templates
+     *
+     * @throws IOException if writer fails
+     */
+    void render(Writer writer, Map<String, ?> values) throws IOException {
+        render(writer, values, 0);
+    }
+
+    /**
+     * Render template to string.
+     *
+     * @param values placeholder values: strings or nested templates
+     *
+     * @return rendered template
+     */
+    String render(Map<String, ?> values) {
+        var writer = new StringWriter(source.length() + (source.length() >> 1));
+        try {
+            render(writer, values, 0);
+        } catch (IOException e) {
+            // never happens with StringWriter
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    private void render(Writer writer, Map<String, ?> values, int depth) throws IOException {
+        for (Segment segment : segments) {
+            if (segment.placeholder == null || !values.containsKey(segment.placeholder)) {
+                writer.write(segment.text);
+                continue;
+            }
+            Object value = values.get(segment.placeholder);
+            if (value instanceof ViewTemplate nested) {
+                if (depth < MAX_DEPTH) {
+                    nested.render(writer, values, depth + 1);
+                } else {
+                    writer.write(nested.source);
+                }
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+    }
+
+    /**
+     * Template segment.
+     *
+     * @param text original segment text
+     * @param placeholder placeholder name or null for literal segments
+     */
+    private record Segment(String text, @Nullable String placeholder) {
+    }
+
+    /**
+     * Cached template.
+     *
+     * @param lastModified last modified time of the template
+     * @param template compiled template
+     */
+    private record CacheEntry(long lastModified, ViewTemplate template) {
+    }
+}
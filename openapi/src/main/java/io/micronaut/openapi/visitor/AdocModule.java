@@ -15,11 +15,8 @@
  */
 package io.micronaut.openapi.visitor;
 
-import java.io.StringWriter;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 import io.micronaut.core.util.StringUtils;
@@ -60,25 +57,14 @@ public final class AdocModule {
     public static void convert(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
 
         try {
-            var writer = new StringWriter();
-            OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer);
-
-            var adoc = writer.toString();
-
             var outputPath = getOutputPath(openApiInfo, props, context);
             info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
-            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-            if (classesOutputPath != null) {
-                // add relative paths for the specPath, and its parent META-INF/swagger
-                // so that micronaut-graal visitor knows about them
-                addGeneratedResource(classesOutputPath.relativize(outputPath).toString(), context);
-            }
+            // several groups can be written to the same file, file from previous builds is replaced
+            var append = context != null && ContextUtils.getGeneratedResources(context).contains(outputPath);
+            // add the file so that micronaut-graal visitor knows about it
+            addGeneratedResource(outputPath, context);
 
-            if (Files.exists(outputPath)) {
-                Files.writeString(outputPath, adoc, StandardOpenOption.APPEND);
-            } else {
-                Files.writeString(outputPath, adoc);
-            }
+            OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, outputPath, append);
         } catch (Exception e) {
             warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
         }
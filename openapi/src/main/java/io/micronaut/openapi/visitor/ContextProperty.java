@@ -110,4 +110,8 @@ public interface ContextProperty {
      * Calculated class output directory path.
      */
     String MICRONAUT_INTERNAL_CLASSPATH_OUTPUT = "micronaut.internal.classpath.output";
+    /**
+     * Paths of all generated resources: specification files, views and their resources.
+     */
+    String MICRONAUT_INTERNAL_GENERATED_RESOURCES = "micronaut.internal.generated.resources";
 }
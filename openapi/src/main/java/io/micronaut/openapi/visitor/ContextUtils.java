@@ -17,8 +17,10 @@ package io.micronaut.openapi.visitor;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
@@ -34,6 +36,8 @@ import io.swagger.v3.oas.models.tags.Tag;
 
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_CLASSPATH_OUTPUT;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_GENERATED_FILE;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_GENERATED_RESOURCES;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED;
 
 /**
  * Convert utilities methods.
@@ -50,6 +54,7 @@ public final class ContextUtils {
     public static final Argument<Map<String, ConfigUtils.CustomSchema>> ARGUMENT_CUSTOM_SCHEMA_MAP = new GenericArgument<>() { };
     public static final Argument<Map<String, GroupProperties>> ARGUMENT_GROUP_PROPERTIES_MAP = new GenericArgument<>() { };
     public static final Argument<Boolean> ARGUMENT_BOOLEAN = Argument.of(Boolean.TYPE);
+    public static final Argument<Set<Path>> ARGUMENT_PATH_SET = new GenericArgument<>() { };
 
     private ContextUtils() {
     }
@@ -148,6 +153,43 @@ public final class ContextUtils {
         context.addGeneratedResource(path);
     }
 
+    /**
+     * Register generated resource file. The file is saved for resources index and, if native resource config
+     * generation is disabled, added to generated resources of micronaut-graal visitor.
+     *
+     * @param path generated file path
+     * @param context visitor context
+     */
+    public static void addGeneratedResource(Path path, @Nullable VisitorContext context) {
+        if (context == null) {
+            return;
+        }
+        getGeneratedResources(context).add(path);
+        if (ConfigUtils.getBooleanProperty(MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED, false, context)) {
+            return;
+        }
+        var classesOutputPath = getClassesOutputPath(context);
+        if (classesOutputPath != null) {
+            context.addGeneratedResource(classesOutputPath.relativize(path).toString());
+        }
+    }
+
+    /**
+     * Returns all registered generated resources.
+     *
+     * @param context visitor context
+     *
+     * @return generated resources paths
+     */
+    public static Set<Path> getGeneratedResources(VisitorContext context) {
+        Set<Path> generatedResources = get(MICRONAUT_INTERNAL_GENERATED_RESOURCES, ARGUMENT_PATH_SET, context);
+        if (generatedResources == null) {
+            generatedResources = new LinkedHashSet<>();
+            put(MICRONAUT_INTERNAL_GENERATED_RESOURCES, generatedResources, context);
+        }
+        return generatedResources;
+    }
+
     public static <T> T get(String paramName, Argument<T> arg, VisitorContext context) {
         return get(paramName, arg, null, context);
     }
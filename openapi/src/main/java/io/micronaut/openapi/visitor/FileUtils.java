@@ -50,6 +50,8 @@ public final class FileUtils {
     public static final String EXT_YML = ".yml";
     public static final String EXT_YAML = ".yaml";
     public static final String EXT_JSON = ".json";
+    public static final String EXT_SMILE = ".smile";
+    public static final String EXT_CBOR = ".cbor";
 
     private FileUtils() {
     }
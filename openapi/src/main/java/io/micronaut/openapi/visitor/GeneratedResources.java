@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getBooleanProperty;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCE_INDEX_ENABLED;
+
+/**
+ * Writes index of generated resources and GraalVM native image resource config for them.
+ * The index contains size and SHA-256 hash of every generated file, so the size of resources
+ * added to the application by the specification files and views can be checked at build time.
+ *
+ * @since 6.6.0
+ */
+@Internal
+public final class GeneratedResources {
+
+    /**
+     * Path of the resources index file.
+     */
+    public static final String RESOURCE_INDEX_PATH = "META-INF/swagger/resource-index.json";
+    /**
+     * Path of the native image resource config file.
+     */
+    public static final String RESOURCE_CONFIG_PATH = "META-INF/native-image/io.micronaut.openapi/resources/resource-config.json";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private GeneratedResources() {
+    }
+
+    /**
+     * Write resources index and native image resource config if they are enabled.
+     *
+     * @param context visitor context
+     */
+    public static void write(@Nullable VisitorContext context) {
+        if (context == null) {
+            return;
+        }
+        var isIndexEnabled = getBooleanProperty(MICRONAUT_OPENAPI_RESOURCE_INDEX_ENABLED, false, context);
+        var isConfigEnabled = getBooleanProperty(MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED, false, context);
+        if (!isIndexEnabled && !isConfigEnabled) {
+            return;
+        }
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        var resources = new ArrayList<String>();
+        var entries = new ArrayList<Map<String, Object>>();
+        long totalSize = 0;
+        for (var path : ContextUtils.getGeneratedResources(context)) {
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            var resourcePath = getResourcePath(path, classesOutputPath);
+            resources.add(resourcePath);
+            if (!isIndexEnabled) {
+                continue;
+            }
+            try {
+                var size = Files.size(path);
+                totalSize += size;
+                var entry = new LinkedHashMap<String, Object>();
+                entry.put("path", resourcePath);
+                entry.put("size", size);
+                entry.put("sha256", sha256(path));
+                entries.add(entry);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                warn("Unable to read generated resource " + path + ": " + e.getMessage(), context);
+            }
+        }
+
+        if (isIndexEnabled) {
+            var index = new LinkedHashMap<String, Object>();
+            index.put("totalSize", totalSize);
+            index.put("resources", entries);
+            info("Generated OpenAPI resources: " + entries.size() + " files, " + totalSize + " bytes", context);
+            writeJson(RESOURCE_INDEX_PATH, index, true, context);
+        }
+        if (isConfigEnabled) {
+            var includes = new ArrayList<Map<String, String>>(resources.size());
+            for (var resource : resources) {
+                includes.add(Map.of("pattern", Pattern.quote(resource)));
+            }
+            writeJson(RESOURCE_CONFIG_PATH, Map.of("resources", Map.of("includes", includes)), false, context);
+        }
+    }
+
+    private static String getResourcePath(Path path, @Nullable Path classesOutputPath) {
+        var resourcePath = classesOutputPath != null && path.startsWith(classesOutputPath) ? classesOutputPath.relativize(path) : path;
+        return resourcePath.toString().replace('\\', '/');
+    }
+
+    private static String sha256(Path path) throws IOException, NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream is = new DigestInputStream(Files.newInputStream(path), digest)) {
+            var buffer = new byte[BUFFER_SIZE];
+            while (is.read(buffer) != -1) {
+                // read whole file to digest
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void writeJson(String path, Object value, boolean isIndex, VisitorContext context) {
+        try {
+            var json = OpenApiUtils.getJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(value);
+            if (Utils.isTestMode()) {
+                if (isIndex) {
+                    Utils.setTestResourceIndex(json);
+                } else {
+                    Utils.setTestResourceConfig(json);
+                }
+                return;
+            }
+            var generatedFile = ContextUtils.visitMetaInfFile(path, context);
+            if (generatedFile == null) {
+                return;
+            }
+            info("Writing " + path, context);
+            try (Writer writer = generatedFile.openWriter()) {
+                writer.write(json);
+            }
+        } catch (IOException e) {
+            warn("Unable to write " + path + ": " + e.getMessage(), context);
+        }
+    }
+}
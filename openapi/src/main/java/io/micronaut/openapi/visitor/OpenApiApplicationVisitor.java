@@ -26,6 +26,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -86,6 +87,7 @@ import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getEnv;
 import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGroupProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getListStringsProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.isOpenApiEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isSpecGenerationEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
@@ -104,10 +106,12 @@ import static io.micronaut.openapi.visitor.FileUtils.openApiSpecFile;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_SPEC;
 import static io.micronaut.openapi.visitor.SchemaUtils.EMPTY_SIMPLE_SCHEMA;
 import static io.micronaut.openapi.visitor.SchemaUtils.TYPE_OBJECT;
@@ -464,6 +468,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             }
 
             generateViews(documentTitle, openApiInfos, context);
+            GeneratedResources.write(context);
 
             visitedElements = visitedElements(context);
         } catch (Throwable t) {
@@ -1052,7 +1057,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         if (context != null) {
             info("Writing OpenAPI views to destination: " + viewsDestDirs, context);
             var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-            if (classesOutputPath != null) {
+            if (classesOutputPath != null && !getBooleanProperty(MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED, false, context)) {
                 addGeneratedResource(classesOutputPath.relativize(viewsDestDirs).toString(), context);
                 addGeneratedResource(classesOutputPath.relativize(viewsDestDirs.getParent()).toString(), context);
             }
@@ -1087,6 +1092,8 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             }
         }
 
+        var additionalFormats = getAdditionalFormats(isYaml, context);
+
         for (OpenApiInfo openApiInfo : openApiInfos.values()) {
             Path specFile = openApiSpecFile(openApiInfo.getFilename(), context);
             try (Writer writer = getFileWriter(specFile)) {
@@ -1098,17 +1105,19 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                     } else {
                         Utils.setTestJsonReference(writer.toString());
                     }
+                    writeAdditionalFormats(openApiInfo, specFile, isYaml, additionalFormats, context);
                 } else {
                     info("Writing OpenAPI file to destination: " + specFile, context);
                     var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                    if (classesOutputPath != null) {
-                        // add relative paths for the specFile, and its parent META-INF/swagger
-                        // so that micronaut-graal visitor knows about them
-                        addGeneratedResource(classesOutputPath.relativize(specFile).toString(), context);
+                    // add the specFile, and its parent META-INF/swagger so that micronaut-graal visitor knows about them
+                    addGeneratedResource(specFile, context);
+                    if (classesOutputPath != null && !getBooleanProperty(MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED, false, context)) {
                         addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
                     }
                     openApiInfo.setSpecFilePath(specFile.getFileName().toString());
 
+                    writeAdditionalFormats(openApiInfo, specFile, isYaml, additionalFormats, context);
+
                     if (isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
                         var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
                         AdocModule.convert(openApiInfo, adocProperties, context);
@@ -1120,6 +1129,70 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
+    private List<SpecFormat> getAdditionalFormats(boolean isYaml, VisitorContext context) {
+        List<String> formatNames = getListStringsProperty(MICRONAUT_OPENAPI_ADDITIONAL_FORMATS, Collections.emptyList(), context);
+        if (CollectionUtils.isEmpty(formatNames)) {
+            return Collections.emptyList();
+        }
+        var mainFormat = isYaml ? SpecFormat.YAML : SpecFormat.JSON;
+        var formats = new ArrayList<SpecFormat>(formatNames.size());
+        for (String formatName : formatNames) {
+            if (StringUtils.isEmpty(formatName)) {
+                continue;
+            }
+            SpecFormat format = SpecFormat.fromString(formatName);
+            if (format == null) {
+                warn("Unknown swagger file format: " + formatName, context);
+                continue;
+            }
+            if (format != mainFormat && !formats.contains(format)) {
+                formats.add(format);
+            }
+        }
+        return formats;
+    }
+
+    private void writeAdditionalFormats(OpenApiInfo openApiInfo, Path specFile, boolean isYaml, List<SpecFormat> formats, VisitorContext context) {
+        if (formats.isEmpty()) {
+            return;
+        }
+        if (Utils.isTestMode()) {
+            var testFormats = new EnumMap<SpecFormat, byte[]>(SpecFormat.class);
+            for (SpecFormat format : formats) {
+                try {
+                    testFormats.put(format, format.getMapper().writeValueAsBytes(openApiInfo.getOpenApi()));
+                } catch (Exception e) {
+                    warn("Unable to generate swagger" + format.getExt() + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+                }
+            }
+            Utils.setTestAdditionalFormats(testFormats);
+            return;
+        }
+        String mainExt = isYaml ? EXT_YML : EXT_JSON;
+        String specFileName = specFile.getFileName().toString();
+        if (specFileName.endsWith(mainExt)) {
+            specFileName = specFileName.substring(0, specFileName.length() - mainExt.length());
+        }
+        for (SpecFormat format : formats) {
+            Path file = specFile.resolveSibling(specFileName + format.getExt());
+            try {
+                if (format.isBinary()) {
+                    try (var out = Files.newOutputStream(file, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE)) {
+                        format.getMapper().writeValue(out, openApiInfo.getOpenApi());
+                    }
+                } else {
+                    try (Writer writer = getFileWriter(file)) {
+                        format.getMapper().writeValue(writer, openApiInfo.getOpenApi());
+                    }
+                }
+                info("Writing OpenAPI file to destination: " + file, context);
+                addGeneratedResource(file, context);
+            } catch (Exception e) {
+                warn("Unable to generate swagger" + format.getExt() + ": " + file + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+            }
+        }
+    }
+
     private Writer getFileWriter(Path specFile) throws IOException {
         if (Utils.isTestMode()) {
             return new StringWriter();
@@ -85,6 +85,13 @@ public interface OpenApiConfigProperty {
      * Is this property true, output file format will be JSON, otherwise YAML.
      */
     String MICRONAUT_OPENAPI_JSON_FORMAT = "micronaut.openapi.json.format";
+    /**
+     * Additional output formats of the swagger file, separated by ','. Available values: yaml, json, smile, cbor.
+     * Additional files are written next to the main file with the same name and format extension.
+     * JSON files are written minified. To generate smile or cbor files you need to add jackson data format module
+     * (jackson-dataformat-smile or jackson-dataformat-cbor) to annotation processor classpath.
+     */
+    String MICRONAUT_OPENAPI_ADDITIONAL_FORMATS = "micronaut.openapi.additional.formats";
     /**
      * The name of the result swagger file.
      * <p>
@@ -224,10 +231,30 @@ public interface OpenApiConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Is split mode enabled: overview, definitions and paths of every tag are rendered
+     * to separate files, which are included to the result adoc file. The template file name
+     * property isn't used in split mode.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED = "micronaut.openapi.adoc.split.enabled";
     /**
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED = "micronaut.openapi.swagger.file.generation.enabled";
+    /**
+     * Is this property true, index of all generated resources (specification files, views and their resources)
+     * with sizes and SHA-256 hashes will be written to META-INF/swagger/resource-index.json.
+     * <br>
+     * Default value is "false".
+     */
+    String MICRONAUT_OPENAPI_RESOURCE_INDEX_ENABLED = "micronaut.openapi.resource.index.enabled";
+    /**
+     * Is this property true, GraalVM native image resource-config.json with only generated specification files
+     * and resources of enabled views will be written instead of registering every generated file separately.
+     * <br>
+     * Default value is "false".
+     */
+    String MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED = "micronaut.openapi.resource.config.enabled";
     /**
      * Default openapi config file.
      */
@@ -243,6 +270,7 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_VIEWS_SPEC,
         MICRONAUT_OPENAPI_FILENAME,
         MICRONAUT_OPENAPI_JSON_FORMAT,
+        MICRONAUT_OPENAPI_ADDITIONAL_FORMATS,
         MICRONAUT_OPENAPI_ENVIRONMENTS,
         MICRONAUT_ENVIRONMENT_ENABLED,
         MICRONAUT_OPENAPI_FIELD_VISIBILITY_LEVEL,
@@ -261,6 +289,9 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH,
         MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME,
         MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH,
-        MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED
+        MICRONAUT_OPENAPI_ADOC_SPLIT_ENABLED,
+        MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED,
+        MICRONAUT_OPENAPI_RESOURCE_INDEX_ENABLED,
+        MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED
     );
 }
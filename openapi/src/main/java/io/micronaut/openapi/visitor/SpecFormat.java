@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2023 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import java.util.Locale;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.openapi.OpenApiUtils;
+import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static io.micronaut.openapi.visitor.FileUtils.EXT_CBOR;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_JSON;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_SMILE;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_YML;
+
+/**
+ * Output formats of the openapi specification file.
+ *
+ * @since 6.6.0
+ */
+@Internal
+public enum SpecFormat {
+
+    YAML(EXT_YML, false, null),
+    JSON(EXT_JSON, false, null),
+    SMILE(EXT_SMILE, true, "com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+    CBOR(EXT_CBOR, true, "com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+    ;
+
+    private final String ext;
+    private final boolean binary;
+    private final String factoryClassName;
+    private ObjectMapper mapper;
+
+    SpecFormat(String ext, boolean binary, String factoryClassName) {
+        this.ext = ext;
+        this.binary = binary;
+        this.factoryClassName = factoryClassName;
+    }
+
+    public String getExt() {
+        return ext;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Returns mapper for this format. Mappers for binary formats created only when
+     * jackson data format module found in annotation processor classpath.
+     *
+     * @return object mapper
+     *
+     * @throws IllegalStateException if jackson data format module not found in classpath
+     */
+    public synchronized ObjectMapper getMapper() {
+        if (this == YAML) {
+            return OpenApiUtils.getYamlMapper();
+        } else if (this == JSON) {
+            return OpenApiUtils.getJsonMapper();
+        }
+        if (mapper == null) {
+            mapper = createMapper(name(), factoryClassName);
+        }
+        return mapper;
+    }
+
+    static ObjectMapper createMapper(String formatName, String factoryClassName) {
+        try {
+            var factory = (JsonFactory) Class.forName(factoryClassName, true, SpecFormat.class.getClassLoader())
+                .getDeclaredConstructor()
+                .newInstance();
+            return ObjectMapperFactory.create(factory);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Can't create mapper for " + formatName + " format. Add jackson data format module with class "
+                + factoryClassName + " to annotation processor classpath", e);
+        }
+    }
+
+    /**
+     * Find format by name.
+     *
+     * @param name format name (yaml, yml, json, smile, cbor)
+     *
+     * @return format or null, if it unknown
+     */
+    @Nullable
+    public static SpecFormat fromString(@Nullable String name) {
+        if (name == null) {
+            return null;
+        }
+        return switch (name.strip().toLowerCase(Locale.US)) {
+            case "yaml", "yml" -> YAML;
+            case "json" -> JSON;
+            case "smile" -> SMILE;
+            case "cbor" -> CBOR;
+            default -> null;
+        };
+    }
+}
@@ -85,6 +85,9 @@ public final class Utils {
     private static String testFileName;
     private static String testYamlReference;
     private static String testJsonReference;
+    private static String testResourceIndex;
+    private static String testResourceConfig;
+    private static Map<SpecFormat, byte[]> testAdditionalFormats;
 
     private static JavadocParser javadocParser = new JavadocParser();
 
@@ -268,6 +271,30 @@ public final class Utils {
         Utils.testJsonReference = testJsonReference;
     }
 
+    public static Map<SpecFormat, byte[]> getTestAdditionalFormats() {
+        return testAdditionalFormats;
+    }
+
+    public static void setTestAdditionalFormats(Map<SpecFormat, byte[]> testAdditionalFormats) {
+        Utils.testAdditionalFormats = testAdditionalFormats;
+    }
+
+    public static String getTestResourceIndex() {
+        return testResourceIndex;
+    }
+
+    public static void setTestResourceIndex(String testResourceIndex) {
+        Utils.testResourceIndex = testResourceIndex;
+    }
+
+    public static String getTestResourceConfig() {
+        return testResourceConfig;
+    }
+
+    public static void setTestResourceConfig(String testResourceConfig) {
+        Utils.testResourceConfig = testResourceConfig;
+    }
+
     public static JavadocParser getJavadocParser() {
         return javadocParser;
     }
@@ -344,5 +371,8 @@ public final class Utils {
         testFileName = null;
         testYamlReference = null;
         testJsonReference = null;
+        testResourceIndex = null;
+        testResourceConfig = null;
+        testAdditionalFormats = null;
     }
 }
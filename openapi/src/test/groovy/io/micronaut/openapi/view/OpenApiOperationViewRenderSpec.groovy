@@ -4,6 +4,7 @@ import io.micronaut.openapi.visitor.OpenApiConfigProperty
 import io.micronaut.openapi.visitor.Pair
 import io.micronaut.openapi.visitor.group.OpenApiInfo
 import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.info.Info
 import org.apache.groovy.util.Maps
 import spock.lang.Specification
 
@@ -439,4 +440,70 @@ class OpenApiOperationViewRenderSpec extends Specification {
         indexText.contains(cfg.getSpecURL(cfg.swaggerUIConfig, null))
         indexText.contains("urls: [{url: contextPath + '/swagger/swagger.yml', name: '1'}],")
     }
+
+    void "test render page per group"() {
+        given:
+        String spec = "swagger-ui.enabled=true,redoc.enabled=true,group-pages.enabled=true,group-pages.index.enabled=true"
+        def openApiInfo1 = new OpenApiInfo(null, "users", "Users", "swagger-users.yml", false, null, new OpenAPI())
+        def openApiInfo2 = new OpenApiInfo(null, "orders", "Orders", "swagger-orders.yml", false, null, new OpenAPI())
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, Maps.of(Pair.of("users", null), openApiInfo1, Pair.of("orders", null), openApiInfo2), new Properties(), null)
+        Path outputDir = Paths.get("output")
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger-users.yml"
+        cfg.render(outputDir, null)
+
+        expect:
+        Files.exists(outputDir.resolve("swagger-ui").resolve("index.html"))
+        Files.exists(outputDir.resolve("swagger-ui").resolve("users").resolve("index.html"))
+        Files.exists(outputDir.resolve("swagger-ui").resolve("orders").resolve("index.html"))
+        Files.exists(outputDir.resolve("swagger-ui").resolve("groups.html"))
+        Files.exists(outputDir.resolve("redoc").resolve("users").resolve("index.html"))
+        Files.exists(outputDir.resolve("redoc").resolve("orders").resolve("index.html"))
+
+        when:
+        def usersText = outputDir.resolve("swagger-ui").resolve("users").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+        def redocOrdersText = outputDir.resolve("redoc").resolve("orders").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+        def groupsText = outputDir.resolve("swagger-ui").resolve("groups.html").toFile().getText(StandardCharsets.UTF_8.name())
+
+        then:
+        usersText.contains("url: contextPath + '/swagger/swagger-users.yml'")
+        !usersText.contains("urls:")
+        usersText.contains("<title>OpenAPI documentation - users</title>")
+        usersText.contains("/swagger-ui/res/swagger-ui-bundle.js")
+        redocOrdersText.contains("Redoc.init(contextPath + '/swagger/swagger-orders.yml')")
+        groupsText.contains("<a href='users/index.html'>users</a>")
+        groupsText.contains("<a href='orders/index.html'>orders</a>")
+    }
+
+    void "test render inline spec"() {
+        given:
+        String spec = "swagger-ui.enabled=true,redoc.enabled=true,rapidoc.enabled=true,inline-spec.max-size=" + maxSize
+        def openApi = new OpenAPI().info(new Info().title("My API").version("1.0").description("Use <b>{{title}}</b>"))
+        def openApiInfo = new OpenApiInfo(openApi)
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, Maps.of(Pair.NULL_STRING_PAIR, openApiInfo), new Properties(), null)
+        Path outputDir = Paths.get("output")
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+
+        when:
+        def swaggerText = outputDir.resolve("swagger-ui").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+        def redocText = outputDir.resolve("redoc").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+        def rapidocText = outputDir.resolve("rapidoc").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+
+        then:
+        swaggerText.contains("url: inlineSpec ? undefined : contextPath + '/swagger/swagger.yml'")
+        swaggerText.contains(inlined ? 'inlineSpec = {"openapi"' : "inlineSpec = null")
+        // placeholders inside the inlined specification are written as is
+        !inlined || swaggerText.contains('"description":"Use \\u003cb>{{title}}\\u003c/b>"')
+        redocText.contains(inlined ? 'inlineSpec = {"openapi"' : "inlineSpec = null")
+        rapidocText.contains(inlined ? 'inlineSpec = {"openapi"' : "inlineSpec = null")
+        !swaggerText.contains("<b>")
+
+        where:
+        maxSize | inlined
+        10000   | true
+        10      | false
+        0       | false
+    }
 }
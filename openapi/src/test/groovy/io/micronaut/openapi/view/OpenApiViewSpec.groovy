@@ -1,6 +1,7 @@
 package io.micronaut.openapi.view
 
 import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import groovy.json.JsonSlurper
 import io.micronaut.openapi.visitor.Utils
 import spock.util.environment.RestoreSystemProperties
 
@@ -85,4 +86,55 @@ class MyBean {}
         Files.exists(outputDir.resolve("openapi-explorer").resolve("res").resolve("highlight.min.js"))
         Files.exists(outputDir.resolve("openapi-explorer").resolve("res").resolve("openapi-explorer.min.js"))
     }
+
+    @RestoreSystemProperties
+    void "test generated resources index and native resource config"() {
+
+        given:
+        Path outputDir = Paths.get("output")
+        System.setProperty(MICRONAUT_OPENAPI_VIEWS_SPEC, "redoc.enabled=true,swagger-ui.enabled=true")
+        System.setProperty(MICRONAUT_OPENAPI_VIEWS_DEST_DIR, outputDir.toString())
+        System.setProperty(MICRONAUT_OPENAPI_RESOURCE_INDEX_ENABLED, "true")
+        System.setProperty(MICRONAUT_OPENAPI_RESOURCE_CONFIG_ENABLED, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+@Controller
+class PetController {
+
+    @Get("/pet")
+    String getPet() {
+        return "John";
+    }
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        then:
+        Utils.testResourceIndex
+        Utils.testResourceConfig
+
+        when:
+        def index = new JsonSlurper().parseText(Utils.testResourceIndex)
+        def config = new JsonSlurper().parseText(Utils.testResourceConfig)
+        def paths = index.resources*.path
+
+        then:
+        paths.contains("output/redoc/index.html")
+        paths.contains("output/redoc/res/redoc.standalone.js")
+        paths.contains("output/swagger-ui/index.html")
+        paths.contains("output/swagger-ui/res/swagger-ui-bundle.js")
+        !paths.any { it.contains("rapidoc") || it.contains("openapi-explorer") || it.contains("res/res") }
+        index.resources.every { it.size > 0 && it.sha256.size() == 64 }
+        index.totalSize == index.resources*.size.sum()
+        config.resources.includes*.pattern.contains("\\Qoutput/redoc/index.html\\E")
+        config.resources.includes.size() == index.resources.size()
+    }
 }
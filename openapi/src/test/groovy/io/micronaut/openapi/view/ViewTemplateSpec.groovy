@@ -0,0 +1,66 @@
+package io.micronaut.openapi.view
+
+import spock.lang.Specification
+
+class ViewTemplateSpec extends Specification {
+
+    void "test render template placeholders"() {
+        given:
+        ViewTemplate template = ViewTemplate.compile("<title>{{title}}</title><script src='{{prefix}}app.js'></script>{{empty}}{{unknown}}")
+
+        expect:
+        template.render([title: "My API", prefix: "/res/", empty: null]) == "<title>My API</title><script src='/res/app.js'></script>{{unknown}}"
+    }
+
+    void "test render nested templates"() {
+        given:
+        ViewTemplate template = ViewTemplate.compile("{{rapipdf.tag}}")
+        Map<String, Object> values = [
+            "rapipdf.tag"       : ViewTemplate.compile("<rapi-pdf {{rapipdf.attributes}}></rapi-pdf>"),
+            "rapipdf.attributes": ViewTemplate.compile("pdf-title=\"{{title}}\""),
+            title               : "Title"
+        ]
+
+        expect:
+        template.render(values) == "<rapi-pdf pdf-title=\"Title\"></rapi-pdf>"
+        template.render(values + [title: "Other"]) == "<rapi-pdf pdf-title=\"Other\"></rapi-pdf>"
+    }
+
+    void "test placeholders in values are not resolved"() {
+        given:
+        ViewTemplate template = ViewTemplate.compile("<title>{{title}}</title>{{description}}")
+
+        expect:
+        template.render([title: "{{description}}", description: "Use {{title}}"]) == "<title>{{description}}</title>Use {{title}}"
+    }
+
+    void "test render template without placeholders"() {
+        expect:
+        ViewTemplate.compile(text).render([:]) == text
+
+        where:
+        text << ["", "plain text", "{{not closed", "a }} b", "{{}}"]
+    }
+
+    void "test render self referenced placeholder"() {
+        expect:
+        ViewTemplate.compile("{{a}}").render([a: ViewTemplate.compile("x{{a}}")]) == "xxxxxxxxx{{a}}"
+    }
+
+    void "test cached template is replaced by changed template"() {
+        given:
+        String key = "file:/tmp/view-template-spec.html"
+        ViewTemplate.cache(key, 1, "v1 {{title}}")
+
+        expect:
+        ViewTemplate.getCached(key, 1).render([title: "T"]) == "v1 T"
+        ViewTemplate.getCached(key, 2) == null
+
+        when:
+        ViewTemplate.cache(key, 2, "v2 {{title}}")
+
+        then:
+        ViewTemplate.getCached(key, 2).render([title: "T"]) == "v2 T"
+        ViewTemplate.getCached(key, 1) == null
+    }
+}
@@ -0,0 +1,138 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.OpenAPI
+
+class OpenApiAdditionalFormatsSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(
+        info = @Info(
+                title = "the title",
+                version = "0.0"
+        )
+)
+class Application {
+}
+
+@Controller("/pets")
+class PetController {
+
+    @Get("/{name}")
+    public String getPet(String name) {
+        return null;
+    }
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+    void "test additional formats are written next to yaml file"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS, "json, smile,cbor,yaml")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testYamlReference != null
+        Utils.testAdditionalFormats.keySet() == [SpecFormat.JSON, SpecFormat.SMILE, SpecFormat.CBOR] as Set
+
+        when:
+        OpenAPI json = OpenApiUtils.jsonMapper.readValue(Utils.testAdditionalFormats.get(SpecFormat.JSON), OpenAPI)
+        OpenAPI smile = SpecFormat.SMILE.mapper.readValue(Utils.testAdditionalFormats.get(SpecFormat.SMILE), OpenAPI)
+        OpenAPI cbor = SpecFormat.CBOR.mapper.readValue(Utils.testAdditionalFormats.get(SpecFormat.CBOR), OpenAPI)
+
+        then:
+        [json, smile, cbor].every {
+            it.info.title == "the title"
+                && it.paths.keySet() == ["/pets/{name}"] as Set
+                && it.paths.get("/pets/{name}").get.operationId == "getPet"
+        }
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS)
+    }
+
+    void "test yaml is written as additional format of json file"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS, "yml,json")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testJsonReference != null
+        Utils.testAdditionalFormats.keySet() == [SpecFormat.YAML] as Set
+        new String(Utils.testAdditionalFormats.get(SpecFormat.YAML)).contains("operationId: getPet")
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS)
+    }
+
+    void "test unknown additional format is skipped"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS, "xml,cbor")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testYamlReference != null
+        Utils.testAdditionalFormats.keySet() == [SpecFormat.CBOR] as Set
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FORMATS)
+    }
+
+    void "test no additional formats by default"() {
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testYamlReference != null
+        Utils.testAdditionalFormats == null
+    }
+
+    void "test format names"() {
+
+        expect:
+        SpecFormat.fromString(name) == format
+
+        where:
+        name     | format
+        "yaml"   | SpecFormat.YAML
+        " YML "  | SpecFormat.YAML
+        "json"   | SpecFormat.JSON
+        "Smile"  | SpecFormat.SMILE
+        "CBOR"   | SpecFormat.CBOR
+        "xml"    | null
+        null     | null
+    }
+
+    void "test missing jackson data format module"() {
+
+        when:
+        SpecFormat.createMapper("ION", "com.fasterxml.jackson.dataformat.ion.IonFactory")
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("ION")
+        e.message.contains("com.fasterxml.jackson.dataformat.ion.IonFactory")
+        e.cause instanceof ClassNotFoundException
+    }
+}
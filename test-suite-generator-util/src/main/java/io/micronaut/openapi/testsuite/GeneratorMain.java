@@ -59,6 +59,9 @@ public class GeneratorMain {
             parseParameterMappings(args[4]);
         List<ResponseBodyMapping> responseBodyMappings =
             parseResponseBodyMappings(args[5]);
+        Map<String, String> generatorOptions = args.length > 9
+            ? parseListOfMaps(args[9]).stream().findFirst().orElse(Map.of())
+            : Map.of();
 
         MicronautCodeGeneratorEntryPoint.OutputKind[] outputKinds
             = Arrays.stream(args[3].split(","))
@@ -69,6 +72,8 @@ public class GeneratorMain {
             .withDefinitionFile(new URI(args[1]))
             .withOutputDirectory(new File(args[2]))
             .withOutputs(outputKinds)
+            // generation runs in the Gradle worker class loader shared by all test suites
+            .withDefinitionCache(true)
             .withOptions(options -> {
                 options.withLang(lang)
                     .withInvokerPackage("io.micronaut.openapi.test")
@@ -99,6 +104,7 @@ public class GeneratorMain {
                     // because we generate both abstract classes _and_ dummy implementations
                     serverOptions.withGenerateImplementationFiles(false)
                         .withAuthentication(false)
+                        .withETagOperations(isEnabled(generatorOptions, "etagOperations"))
                         .withGeneratedAnnotation(generatedAnnotation);
                 });
             }
@@ -106,17 +112,27 @@ public class GeneratorMain {
             if (lang == GeneratorLanguage.KOTLIN) {
                 builder.forKotlinClient(client -> {
                     client.withGeneratedAnnotation(generatedAnnotation)
+                        .withAuthorization(isEnabled(generatorOptions, "authorization"))
+                        .withCoroutines(isEnabled(generatorOptions, "coroutines"))
+                        .withFluxForArrays(isEnabled(generatorOptions, "fluxForArrays"))
                         .withKsp(ksp);
                 });
             } else {
                 builder.forJavaClient(client -> {
-                    client.withGeneratedAnnotation(generatedAnnotation);
+                    client.withGeneratedAnnotation(generatedAnnotation)
+                        .withAuthorization(isEnabled(generatorOptions, "authorization"))
+                        .withResponseCache(isEnabled(generatorOptions, "responseCache"))
+                        .withParameterEncoders(isEnabled(generatorOptions, "parameterEncoders"));
                 });
             }
         }
         builder.build().generate();
     }
 
+    private static boolean isEnabled(Map<String, String> generatorOptions, String name) {
+        return "true".equals(generatorOptions.get(name));
+    }
+
     private static List<ParameterMapping> parseParameterMappings(String string) {
         return parseListOfMaps(string).stream().map(map -> new ParameterMapping(
             map.get("name"),
@@ -0,0 +1,51 @@
+package io.micronaut.openapi.test.auth
+
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.openapi.test.api.PetApi
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+class AuthorizationFilterSpec extends Specification {
+
+    @Inject
+    PetApi petApi
+
+    @Inject
+    MockOauthController oauthController
+
+    void "test concurrent requests share one token request"() {
+        when:
+        List<?> results = Flux.range(0, 20)
+                .flatMap { petApi.findPetsByTags(["tag"]) }
+                .collectList()
+                .block()
+
+        then:
+        results.size() == 20
+        oauthController.tokenRequests.get() == 1
+    }
+
+    void "test rejected token is not used again"() {
+        given:
+        petApi.findPetsByTags(["tag"]).block()
+        int tokenRequests = oauthController.tokenRequests.get()
+        oauthController.revokeTokens()
+
+        when:
+        petApi.findPetsByTags(["tag"]).block()
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.UNAUTHORIZED
+
+        when:
+        petApi.findPetsByTags(["tag"]).block()
+
+        then:
+        oauthController.tokenRequests.get() == tokenRequests + 1
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.openapi.test.auth
+
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Post
+import io.micronaut.security.annotation.Secured
+import io.micronaut.security.rules.SecurityRule
+import reactor.core.publisher.Mono
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * A token endpoint and a pet endpoint, which accepts only the issued tokens.
+ */
+@Controller
+@Secured(SecurityRule.IS_ANONYMOUS)
+class MockOauthController {
+
+    final AtomicInteger tokenRequests = new AtomicInteger()
+    final Set<String> validTokens = ConcurrentHashMap.newKeySet()
+
+    @Post(uri = "/oauth/token", consumes = MediaType.APPLICATION_FORM_URLENCODED)
+    Mono<Map<String, Object>> token() {
+        String accessToken = "token-" + tokenRequests.incrementAndGet()
+        validTokens.add(accessToken)
+        // the response is delayed, so that concurrent requests have to wait for the same token
+        return Mono.delay(Duration.ofMillis(200))
+                .thenReturn([access_token: accessToken, token_type: "Bearer", expires_in: 3600] as Map<String, Object>)
+    }
+
+    @Get(uri = "/v2/pet/findByTags", produces = MediaType.APPLICATION_JSON)
+    HttpResponse<List<Object>> findPetsByTags(@Header(HttpHeaders.AUTHORIZATION) @Nullable String authorization) {
+        if (authorization == null || !validTokens.contains(authorization.replace("Bearer ", ""))) {
+            return HttpResponse.unauthorized()
+        }
+        return HttpResponse.ok([])
+    }
+
+    void revokeTokens() {
+        validTokens.clear()
+    }
+}
@@ -0,0 +1,57 @@
+package io.micronaut.openapi.test.cache
+
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.MediaType
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.PathVariable
+import io.micronaut.security.annotation.Secured
+import io.micronaut.security.rules.SecurityRule
+import reactor.core.publisher.Mono
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Catalog endpoint, which counts the requests and revalidates the catalog with ETag.
+ */
+@Controller("/v2/store/catalog")
+@Secured(SecurityRule.IS_ANONYMOUS)
+class CatalogController {
+
+    static final String ETAG = '"v1"'
+
+    final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>()
+    final Map<String, AtomicInteger> notModified = new ConcurrentHashMap<>()
+    volatile int maxAge = 60
+
+    @Get(uri = "/{name}", produces = MediaType.APPLICATION_JSON)
+    Mono<HttpResponse<Map<String, String>>> getCatalog(@PathVariable String name,
+                                                       @Header(HttpHeaders.IF_NONE_MATCH) @Nullable String ifNoneMatch) {
+        requests.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet()
+        MutableHttpResponse<Map<String, String>> response
+        if (ifNoneMatch == ETAG) {
+            notModified.computeIfAbsent(name, n -> new AtomicInteger()).incrementAndGet()
+            response = HttpResponse.notModified()
+        } else {
+            response = HttpResponse.ok([name: name])
+        }
+        response.header(HttpHeaders.ETAG, ETAG)
+        response.header(HttpHeaders.CACHE_CONTROL, "max-age=" + maxAge)
+        // the response is delayed, so that concurrent requests are in flight at the same time
+        return Mono.delay(Duration.ofMillis(200)).thenReturn(response)
+    }
+
+    int requestCount(String name) {
+        return requests.getOrDefault(name, new AtomicInteger()).get()
+    }
+
+    int notModifiedCount(String name) {
+        return notModified.getOrDefault(name, new AtomicInteger()).get()
+    }
+}
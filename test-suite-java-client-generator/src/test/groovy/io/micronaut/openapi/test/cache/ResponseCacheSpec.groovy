@@ -0,0 +1,67 @@
+package io.micronaut.openapi.test.cache
+
+import io.micronaut.openapi.test.api.StoreApi
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest
+class ResponseCacheSpec extends Specification {
+
+    @Inject
+    StoreApi storeApi
+
+    @Inject
+    CatalogController catalogController
+
+    void setup() {
+        catalogController.maxAge = 60
+    }
+
+    void "test concurrent requests share one server request"() {
+        when:
+        List<Map<String, String>> catalogs = Flux.range(0, 10)
+                .flatMap { storeApi.getCatalog("concurrent") }
+                .collectList()
+                .block()
+
+        then:
+        catalogs.size() == 10
+        catalogs.every { it == [name: "concurrent"] }
+        catalogController.requestCount("concurrent") == 1
+
+        when:
+        storeApi.getCatalog("concurrent").block()
+
+        then:
+        catalogController.requestCount("concurrent") == 1
+    }
+
+    void "test expired response is revalidated"() {
+        given:
+        catalogController.maxAge = 1
+        storeApi.getCatalog("expired").block()
+
+        when:
+        sleep(1100)
+        Map<String, String> catalog = storeApi.getCatalog("expired").block()
+
+        then:
+        catalog == [name: "expired"]
+        catalogController.requestCount("expired") == 2
+        catalogController.notModifiedCount("expired") == 1
+    }
+
+    void "test every caller gets its own copy of the body"() {
+        given:
+        Map<String, String> catalog = storeApi.getCatalog("copy").block()
+
+        when:
+        catalog.put("name", "changed")
+
+        then:
+        storeApi.getCatalog("copy").block() == [name: "copy"]
+        catalogController.requestCount("copy") == 1
+    }
+}
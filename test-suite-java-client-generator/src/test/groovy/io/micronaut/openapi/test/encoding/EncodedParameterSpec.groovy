@@ -0,0 +1,35 @@
+package io.micronaut.openapi.test.encoding
+
+import io.micronaut.openapi.test.api.StoreApi
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+class EncodedParameterSpec extends Specification {
+
+    @Inject
+    StoreApi storeApi
+
+    void "test collection parameters are sent as one joined value"() {
+        when:
+        Map<String, String> received = storeApi.searchStore([1L, 2L, 3L], ["red", "dark blue"], ["new", "sale"]).block()
+
+        then: "csv query parameter"
+        received.ids == "[1,2,3]"
+
+        and: "pipes query parameter"
+        received.colors == "[red|dark blue]"
+
+        and: "csv header"
+        received.labels == "[new,sale]"
+    }
+
+    void "test single item collection parameters"() {
+        when:
+        Map<String, String> received = storeApi.searchStore([1L], ["red"], ["new"]).block()
+
+        then:
+        received == [ids: "[1]", colors: "[red]", labels: "[new]"]
+    }
+}
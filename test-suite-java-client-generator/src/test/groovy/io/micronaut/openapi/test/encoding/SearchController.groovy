@@ -0,0 +1,25 @@
+package io.micronaut.openapi.test.encoding
+
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.security.annotation.Secured
+import io.micronaut.security.rules.SecurityRule
+
+/**
+ * Search endpoint, which returns the collection parameters as they were received.
+ */
+@Controller("/v2/store/search")
+@Secured(SecurityRule.IS_ANONYMOUS)
+class SearchController {
+
+    @Get(produces = MediaType.APPLICATION_JSON)
+    Map<String, String> searchStore(HttpRequest<?> request) {
+        return [
+            ids   : request.parameters.getAll("ids").toString(),
+            colors: request.parameters.getAll("colors").toString(),
+            labels: request.headers.getAll("X-Labels").toString()
+        ]
+    }
+}
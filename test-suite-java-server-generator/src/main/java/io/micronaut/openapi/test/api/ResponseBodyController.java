@@ -5,7 +5,9 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
@@ -22,11 +24,20 @@ import io.micronaut.openapi.test.model.ModelWithValidatedListProperty;
 import io.micronaut.openapi.test.model.SimpleModel;
 import io.micronaut.openapi.test.model.StateEnum;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Controller
 public class ResponseBodyController implements ResponseBodyApi {
 
+    public static final byte[] LARGE_FILE_CHUNK = new byte[64 * 1024];
+
+    static {
+        for (int i = 0; i < LARGE_FILE_CHUNK.length; i++) {
+            LARGE_FILE_CHUNK[i] = (byte) i;
+        }
+    }
+
     public static SimpleModel SIMPLE_MODEL = new SimpleModel()
         .color("red")
         .area(10.5f)
@@ -57,11 +68,28 @@ public class ResponseBodyController implements ResponseBodyApi {
     public static final ZonedDateTime LAST_MODIFIED_DATE =
         ZonedDateTime.parse(LAST_MODIFIED_STRING);
 
+    public static final String SIMPLE_MODEL_ETAG = "simple-model-v1";
+
+    public static final AtomicInteger TAGGED_SIMPLE_MODEL_BODIES = new AtomicInteger();
+
     @Override
     public Mono<SimpleModel> getSimpleModel() {
         return Mono.just(SIMPLE_MODEL);
     }
 
+    @Override
+    public String getTaggedSimpleModelETag() {
+        return SIMPLE_MODEL_ETAG;
+    }
+
+    @Override
+    public Mono<SimpleModel> getTaggedSimpleModel() {
+        return Mono.fromCallable(() -> {
+            TAGGED_SIMPLE_MODEL_BODIES.incrementAndGet();
+            return SIMPLE_MODEL;
+        });
+    }
+
     @Override
     public Mono<ZonedDateTime> getDateTime() {
         return Mono.just(DATE_TIME_INSTANCE);
@@ -113,6 +141,20 @@ public class ResponseBodyController implements ResponseBodyApi {
         return Mono.just(new StreamedFile(stream, MediaType.TEXT_PLAIN_TYPE));
     }
 
+    @Override
+    public Flux<byte[]> getLargeFile(Long size) {
+        // chunks are generated on demand, so the file is never held in memory
+        return Flux.generate(() -> size, (remaining, sink) -> {
+            if (remaining <= 0) {
+                sink.complete();
+                return remaining;
+            }
+            int length = (int) Math.min(remaining, LARGE_FILE_CHUNK.length);
+            sink.next(length == LARGE_FILE_CHUNK.length ? LARGE_FILE_CHUNK : Arrays.copyOf(LARGE_FILE_CHUNK, length));
+            return remaining - length;
+        });
+    }
+
     @Override
     public Mono<ModelWithValidatedListProperty> getModelWithValidatedList() {
         List<SimpleModel> objectList = List.of(new SimpleModel().color("a"));
@@ -1,11 +1,15 @@
 package io.micronaut.openapi.test.api
 
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.io.buffer.ReferenceCounted
 import io.micronaut.core.type.Argument
+import io.micronaut.http.HttpHeaders
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.HttpResponse
 import io.micronaut.http.HttpStatus
 import io.micronaut.http.client.BlockingHttpClient
 import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.StreamingHttpClient
 import io.micronaut.http.client.annotation.Client
 import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.openapi.test.model.DateModel
@@ -13,6 +17,7 @@ import io.micronaut.openapi.test.model.SimpleModel
 import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
 import jakarta.inject.Inject
+import reactor.core.publisher.Flux
 import spock.lang.Ignore
 import spock.lang.Specification
 
@@ -28,6 +33,10 @@ class ResponseBodyControllerSpec extends Specification {
     @Client("/api")
     HttpClient reactiveClient
 
+    @Inject
+    @Client("/api")
+    StreamingHttpClient streamingClient
+
     BlockingHttpClient client
 
     void setup() {
@@ -43,6 +52,40 @@ class ResponseBodyControllerSpec extends Specification {
         ResponseBodyController.SIMPLE_MODEL == response.body()
     }
 
+    void "test get tagged simple model"() {
+        when:
+        HttpResponse<SimpleModel> response = client.exchange("/getTaggedSimpleModel", SimpleModel)
+
+        then:
+        HttpStatus.OK == response.status
+        '"simple-model-v1"' == response.header(HttpHeaders.ETAG)
+        ResponseBodyController.SIMPLE_MODEL == response.body()
+    }
+
+    void "test get tagged simple model with If-None-Match #ifNoneMatch"() {
+        given:
+        int bodies = ResponseBodyController.TAGGED_SIMPLE_MODEL_BODIES.get()
+
+        when:
+        HttpResponse<SimpleModel> response = client.exchange(
+            HttpRequest.GET("/getTaggedSimpleModel").header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch), SimpleModel)
+
+        then:
+        status == response.status
+        '"simple-model-v1"' == response.header(HttpHeaders.ETAG)
+        (status == HttpStatus.OK) == response.body.isPresent()
+        (status == HttpStatus.OK ? bodies + 1 : bodies) == ResponseBodyController.TAGGED_SIMPLE_MODEL_BODIES.get()
+
+        where:
+        ifNoneMatch                      | status
+        '"simple-model-v1"'              | HttpStatus.NOT_MODIFIED
+        'W/"simple-model-v1"'            | HttpStatus.NOT_MODIFIED
+        '*'                              | HttpStatus.NOT_MODIFIED
+        '"other", W/"simple-model-v1"'   | HttpStatus.NOT_MODIFIED
+        '"other"'                        | HttpStatus.OK
+        '"simple-model-v2"'              | HttpStatus.OK
+    }
+
     void "test get date time"() {
         when:
         HttpResponse<ZonedDateTime> response = client.exchange("/getDateTime", ZonedDateTime)
@@ -170,4 +213,34 @@ class ResponseBodyControllerSpec extends Specification {
         expectedContent == new String(response)
     }
 
+    void "test get large file by chunks"() {
+        given:
+        // the largeFileTest task runs it with a file larger than the heap
+        long size = Long.getLong("large.file.size", 8L * 1024 * 1024) + 17
+        HttpRequest<?> request = HttpRequest.GET("/getLargeFile?size=" + size)
+
+        when:
+        byte[] firstBytes = new byte[16]
+        long received = Flux.from(streamingClient.dataStream(request))
+                .map { ByteBuffer<?> buffer ->
+                    try {
+                        int length = buffer.readableBytes()
+                        if (length >= firstBytes.length && firstBytes[1] == 0) {
+                            buffer.read(firstBytes)
+                        }
+                        return (long) length
+                    } finally {
+                        if (buffer instanceof ReferenceCounted) {
+                            ((ReferenceCounted) buffer).release()
+                        }
+                    }
+                }
+                .reduce(0L, { long a, long b -> a + b })
+                .block()
+
+        then:
+        size == received
+        Arrays.copyOf(ResponseBodyController.LARGE_FILE_CHUNK, firstBytes.length) == firstBytes
+    }
+
 }